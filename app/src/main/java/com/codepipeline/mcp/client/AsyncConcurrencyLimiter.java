@@ -0,0 +1,77 @@
+package com.codepipeline.mcp.client;
+
+import com.codepipeline.mcp.exception.IspwClientException;
+import org.springframework.http.HttpStatus;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Caps the number of in-flight asynchronous calls without blocking the caller.
+ *
+ * <p>Calls beyond the limit wait in a bounded queue and are started as earlier calls complete;
+ * when the queue is full the call fails immediately instead of piling up.</p>
+ */
+class AsyncConcurrencyLimiter {
+
+    private final Semaphore permits;
+    private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final int maxPending;
+
+    AsyncConcurrencyLimiter(int maxConcurrent, int maxPending) {
+        this.permits = new Semaphore(maxConcurrent);
+        this.maxPending = maxPending;
+    }
+
+    <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> call) {
+        if (pendingCount.incrementAndGet() > maxPending) {
+            pendingCount.decrementAndGet();
+            return CompletableFuture.failedFuture(new IspwClientException(
+                    HttpStatus.SERVICE_UNAVAILABLE, "Too many pending ISPW requests"));
+        }
+        
+        CompletableFuture<T> result = new CompletableFuture<>();
+        pending.add(() -> start(call, result));
+        drain();
+        return result;
+    }
+
+    private <T> void start(Supplier<CompletableFuture<T>> call, CompletableFuture<T> result) {
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        future.whenComplete((value, error) -> {
+            permits.release();
+            drain();
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(value);
+            }
+        });
+    }
+
+    private void drain() {
+        while (permits.tryAcquire()) {
+            Runnable next = pending.poll();
+            if (next == null) {
+                permits.release();
+                // A call may have been queued between poll() and release(); retry so it is not stranded
+                if (pending.isEmpty()) {
+                    return;
+                }
+                continue;
+            }
+            pendingCount.decrementAndGet();
+            next.run();
+        }
+    }
+}
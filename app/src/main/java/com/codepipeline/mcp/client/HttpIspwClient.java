@@ -0,0 +1,140 @@
+package com.codepipeline.mcp.client;
+
+import com.codepipeline.mcp.config.IspwClientProperties;
+import com.codepipeline.mcp.dto.DeployRequest;
+import com.codepipeline.mcp.dto.GenerateRequest;
+import com.codepipeline.mcp.dto.IspwOperationResponse;
+import com.codepipeline.mcp.dto.PromoteRequest;
+import com.codepipeline.mcp.exception.IspwClientException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * {@link IspwClient} backed by the JDK {@link HttpClient}.
+ *
+ * <p>A single client instance is shared so connections to CES are pooled and reused. Requests are
+ * sent asynchronously with connect and per-request timeouts, and at most
+ * {@code maxConcurrentRequests} are in flight at once.</p>
+ */
+@Slf4j
+public class HttpIspwClient implements IspwClient {
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final AsyncConcurrencyLimiter limiter;
+    private final URI baseUri;
+    private final String token;
+    private final Duration requestTimeout;
+
+    public HttpIspwClient(IspwClientProperties properties, ObjectMapper objectMapper) {
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(properties.getConnectTimeout())
+                .build();
+        this.objectMapper = objectMapper;
+        this.limiter = new AsyncConcurrencyLimiter(
+                properties.getMaxConcurrentRequests(), properties.getMaxPendingRequests());
+        this.baseUri = URI.create(properties.getBaseUrl());
+        this.token = properties.getToken();
+        this.requestTimeout = properties.getRequestTimeout();
+    }
+
+    @Override
+    public CompletableFuture<IspwOperationResponse> generate(String srid, String assignmentId, GenerateRequest request) {
+        return post(request, "/ispw/{srid}/assignments/{assignmentId}/generate", srid, assignmentId);
+    }
+
+    @Override
+    public CompletableFuture<IspwOperationResponse> promote(String srid, String assignmentId, PromoteRequest request) {
+        return post(request, "/ispw/{srid}/assignments/{assignmentId}/promote", srid, assignmentId);
+    }
+
+    @Override
+    public CompletableFuture<IspwOperationResponse> deployAssignment(String srid, String assignmentId,
+                                                                     DeployRequest request) {
+        return post(request, "/ispw/{srid}/assignments/{assignmentId}/deploy", srid, assignmentId);
+    }
+
+    @Override
+    public CompletableFuture<IspwOperationResponse> deployRelease(String srid, String releaseId, DeployRequest request) {
+        return post(request, "/ispw/{srid}/releases/{releaseId}/deploy", srid, releaseId);
+    }
+
+    @Override
+    public CompletableFuture<IspwOperationResponse> deploySet(String srid, String setId, DeployRequest request) {
+        return post(request, "/ispw/{srid}/sets/{setId}/deploy", srid, setId);
+    }
+
+    private CompletableFuture<IspwOperationResponse> post(Object body, String path, Object... pathVariables) {
+        URI uri = UriComponentsBuilder.fromUri(baseUri)
+                .path(path)
+                .buildAndExpand(pathVariables)
+                .encode()
+                .toUri();
+        
+        HttpRequest request;
+        try {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                    .timeout(requestTimeout)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+            if (token != null && !token.isEmpty()) {
+                builder.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+            }
+            request = builder.build();
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(new IspwClientException(
+                    HttpStatus.INTERNAL_SERVER_ERROR, "Failed to serialize ISPW request", e));
+        }
+        
+        return limiter.submit(() -> httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()))
+                .handle((response, error) -> {
+                    if (error != null) {
+                        throw translate(uri, error);
+                    }
+                    return readResponse(uri, response);
+                });
+    }
+
+    private IspwOperationResponse readResponse(URI uri, HttpResponse<byte[]> response) {
+        if (response.statusCode() / 100 != 2) {
+            log.warn("ISPW request {} failed with status {}", uri.getPath(), response.statusCode());
+            throw new IspwClientException(HttpStatus.BAD_GATEWAY,
+                    "ISPW request " + uri.getPath() + " failed with status " + response.statusCode());
+        }
+        try {
+            return objectMapper.readValue(response.body(), IspwOperationResponse.class);
+        } catch (IOException e) {
+            throw new IspwClientException(HttpStatus.BAD_GATEWAY,
+                    "Unreadable response from ISPW request " + uri.getPath(), e);
+        }
+    }
+
+    private static RuntimeException translate(URI uri, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof IspwClientException ispwClientException) {
+            return ispwClientException;
+        }
+        if (cause instanceof HttpTimeoutException) {
+            return new IspwClientException(HttpStatus.GATEWAY_TIMEOUT,
+                    "ISPW request " + uri.getPath() + " timed out", cause);
+        }
+        return new IspwClientException(HttpStatus.BAD_GATEWAY,
+                "ISPW request " + uri.getPath() + " failed: " + cause.getMessage(), cause);
+    }
+}
@@ -0,0 +1,27 @@
+package com.codepipeline.mcp.client;
+
+import com.codepipeline.mcp.dto.DeployRequest;
+import com.codepipeline.mcp.dto.GenerateRequest;
+import com.codepipeline.mcp.dto.IspwOperationResponse;
+import com.codepipeline.mcp.dto.PromoteRequest;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking client for the ISPW/CES operation endpoints.
+ *
+ * <p>Every call returns immediately; failures complete the future exceptionally with an
+ * {@link com.codepipeline.mcp.exception.IspwClientException}.</p>
+ */
+public interface IspwClient {
+
+    CompletableFuture<IspwOperationResponse> generate(String srid, String assignmentId, GenerateRequest request);
+
+    CompletableFuture<IspwOperationResponse> promote(String srid, String assignmentId, PromoteRequest request);
+
+    CompletableFuture<IspwOperationResponse> deployAssignment(String srid, String assignmentId, DeployRequest request);
+
+    CompletableFuture<IspwOperationResponse> deployRelease(String srid, String releaseId, DeployRequest request);
+
+    CompletableFuture<IspwOperationResponse> deploySet(String srid, String setId, DeployRequest request);
+}
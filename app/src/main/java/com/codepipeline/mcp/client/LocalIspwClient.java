@@ -0,0 +1,56 @@
+package com.codepipeline.mcp.client;
+
+import com.codepipeline.mcp.dto.DeployRequest;
+import com.codepipeline.mcp.dto.GenerateRequest;
+import com.codepipeline.mcp.dto.IspwOperationResponse;
+import com.codepipeline.mcp.dto.PromoteRequest;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * In-process stand-in for ISPW/CES used when no CES server is configured; every operation
+ * completes immediately.
+ */
+@Slf4j
+public class LocalIspwClient implements IspwClient {
+
+    @Override
+    public CompletableFuture<IspwOperationResponse> generate(String srid, String assignmentId, GenerateRequest request) {
+        return completed("Generate", "assignment", srid, assignmentId);
+    }
+
+    @Override
+    public CompletableFuture<IspwOperationResponse> promote(String srid, String assignmentId, PromoteRequest request) {
+        return completed("Promote", "assignment", srid, assignmentId);
+    }
+
+    @Override
+    public CompletableFuture<IspwOperationResponse> deployAssignment(String srid, String assignmentId,
+                                                                     DeployRequest request) {
+        return completed("Deploy", "assignment", srid, assignmentId);
+    }
+
+    @Override
+    public CompletableFuture<IspwOperationResponse> deployRelease(String srid, String releaseId, DeployRequest request) {
+        return completed("Deploy", "release", srid, releaseId);
+    }
+
+    @Override
+    public CompletableFuture<IspwOperationResponse> deploySet(String srid, String setId, DeployRequest request) {
+        return completed("Deploy", "set", srid, setId);
+    }
+
+    private CompletableFuture<IspwOperationResponse> completed(String operation, String targetType,
+                                                               String srid, String targetId) {
+        log.info("{} of {} {} for SRID {} completed by local ISPW stand-in", operation, targetType, targetId, srid);
+        return CompletableFuture.completedFuture(IspwOperationResponse.builder()
+                .operationId(UUID.randomUUID().toString())
+                .status(IspwOperationResponse.Status.COMPLETED)
+                .message(operation + " of " + targetType + " " + targetId + " completed")
+                .startTime(OffsetDateTime.now())
+                .build());
+    }
+}
@@ -0,0 +1,40 @@
+package com.codepipeline.mcp.config;
+
+import com.codepipeline.mcp.service.ParentLookupService;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Bounded, expiring Caffeine caches for business-key lookups.
+ *
+ * <p>The cache manager is transaction aware, so keys looked up inside a transaction are cached only once
+ * it commits. Deleted parents are evicted after their delete committed, see
+ * {@link com.codepipeline.mcp.service.ParentLookupEvictionListener}. Statistics are recorded so actuator
+ * publishes {@code cache.gets} hit/miss counts, {@code cache.evictions} and {@code cache.size} per
+ * cache.</p>
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(LookupCacheProperties.class)
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(LookupCacheProperties properties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats());
+        cacheManager.setCacheNames(List.of(ParentLookupService.ASSIGNMENT_KEYS, ParentLookupService.RELEASE_KEYS));
+        cacheManager.setAllowNullValues(false);
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
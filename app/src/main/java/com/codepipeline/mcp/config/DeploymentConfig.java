@@ -0,0 +1,18 @@
+package com.codepipeline.mcp.config;
+
+import com.codepipeline.mcp.client.IspwClient;
+import com.codepipeline.mcp.service.DeploymentExecutor;
+import com.codepipeline.mcp.service.IspwDeploymentExecutor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(DeploymentProperties.class)
+public class DeploymentConfig {
+
+    @Bean
+    public DeploymentExecutor deploymentExecutor(IspwClient ispwClient) {
+        return new IspwDeploymentExecutor(ispwClient);
+    }
+}
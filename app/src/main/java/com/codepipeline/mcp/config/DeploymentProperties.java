@@ -0,0 +1,46 @@
+package com.codepipeline.mcp.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the asynchronous deployment worker pool.
+ */
+@Data
+@ConfigurationProperties(prefix = "mcp.deployment")
+public class DeploymentProperties {
+
+    /**
+     * Maximum number of deployments executed concurrently.
+     */
+    private int workers = 4;
+
+    /**
+     * Number of dispatched jobs that may wait for a free worker; further jobs stay queued in the
+     * database until the sweeper picks them up.
+     */
+    private int queueCapacity = 100;
+
+    /**
+     * Run workers on virtual threads when the JVM supports them.
+     */
+    private boolean virtualThreads = true;
+
+    /**
+     * How often queued jobs that were not dispatched (pool saturated, restart) are picked up again.
+     */
+    private Duration sweepInterval = Duration.ofSeconds(30);
+
+    /**
+     * How long a job may stay running before the sweep marks it failed and releases its target; must
+     * exceed the longest expected deployment.
+     */
+    private Duration runningTimeout = Duration.ofMinutes(30);
+
+    /**
+     * How long shutdown waits for running deployments to finish.
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,27 @@
+package com.codepipeline.mcp.config;
+
+import com.codepipeline.mcp.client.HttpIspwClient;
+import com.codepipeline.mcp.client.IspwClient;
+import com.codepipeline.mcp.client.LocalIspwClient;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(IspwClientProperties.class)
+public class IspwClientConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "mcp.ispw", name = "mode", havingValue = "http")
+    public IspwClient httpIspwClient(IspwClientProperties properties, ObjectMapper objectMapper) {
+        return new HttpIspwClient(properties, objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "mcp.ispw", name = "mode", havingValue = "local", matchIfMissing = true)
+    public IspwClient localIspwClient() {
+        return new LocalIspwClient();
+    }
+}
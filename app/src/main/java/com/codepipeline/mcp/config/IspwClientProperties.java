@@ -0,0 +1,51 @@
+package com.codepipeline.mcp.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Connection settings for ISPW/CES.
+ */
+@Data
+@ConfigurationProperties(prefix = "mcp.ispw")
+public class IspwClientProperties {
+
+    public enum Mode {
+        /**
+         * Use the in-process stand-in; no CES server is contacted.
+         */
+        LOCAL,
+        /**
+         * Call the CES REST API at {@link #baseUrl}.
+         */
+        HTTP
+    }
+
+    private Mode mode = Mode.LOCAL;
+
+    /**
+     * CES base URL, e.g. {@code https://ces-host:2020}.
+     */
+    private String baseUrl = "http://localhost:2020";
+
+    /**
+     * CES personal access token sent as a bearer token.
+     */
+    private String token;
+
+    private Duration connectTimeout = Duration.ofSeconds(5);
+
+    private Duration requestTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Maximum number of CES requests in flight at once.
+     */
+    private int maxConcurrentRequests = 16;
+
+    /**
+     * Maximum number of requests waiting for a free slot before new requests are rejected.
+     */
+    private int maxPendingRequests = 1000;
+}
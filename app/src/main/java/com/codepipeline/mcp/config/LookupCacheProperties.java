@@ -0,0 +1,24 @@
+package com.codepipeline.mcp.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the caches that resolve assignments and releases by business key.
+ */
+@Data
+@ConfigurationProperties(prefix = "mcp.cache.lookup")
+public class LookupCacheProperties {
+
+    /**
+     * Maximum number of keys held per cache before the least recently used ones are evicted.
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * How long a resolved key is kept; bounds staleness for changes made outside this instance.
+     */
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+}
@@ -0,0 +1,31 @@
+package com.codepipeline.mcp.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the relay that publishes outbox change events to STOMP topics.
+ */
+@Data
+@ConfigurationProperties(prefix = "mcp.outbox")
+public class OutboxProperties {
+
+    /**
+     * How long the relay waits after a commit before draining, so that a burst of changes is
+     * published as one batch in which repeated changes to the same resource collapse into one event.
+     */
+    private Duration coalesceWindow = Duration.ofMillis(250);
+
+    /**
+     * Maximum number of outbox rows read, published and deleted per transaction.
+     */
+    private int batchSize = 500;
+
+    /**
+     * How often the outbox is drained regardless of commits, picking up rows left by a failed
+     * publish or a restart.
+     */
+    private Duration sweepInterval = Duration.ofSeconds(30);
+}
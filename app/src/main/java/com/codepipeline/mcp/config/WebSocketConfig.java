@@ -0,0 +1,187 @@
+package com.codepipeline.mcp.config;
+
+import com.codepipeline.mcp.util.ThreadFactoryUtils;
+import com.codepipeline.mcp.websocket.SessionLimitHandlerDecorator;
+import com.codepipeline.mcp.websocket.SridSubscriptionInterceptor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.ServletContext;
+import jakarta.websocket.server.ServerContainer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.context.ServletContextAware;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import java.util.concurrent.ThreadFactory;
+
+@Slf4j
+@Configuration
+@EnableWebSocketMessageBroker
+@EnableConfigurationProperties(WebSocketProperties.class)
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer, ServletContextAware {
+
+    private final WebSocketProperties properties;
+
+    /**
+     * Sends broker and SockJS heartbeats, kept apart from the broker's own scheduler so that a burst of
+     * heartbeats to many idle clients cannot delay receipts or reconnects.
+     */
+    @Bean
+    public ThreadPoolTaskScheduler webSocketHeartbeatScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("ws-heartbeat-");
+        return scheduler;
+    }
+
+    /**
+     * Publishes queue depth, active threads and pool size of the client channels, tagged
+     * {@code channel=inbound|outbound}.
+     */
+    @Bean
+    public MeterBinder webSocketChannelMetrics(
+            @Qualifier("clientInboundChannelExecutor") ThreadPoolTaskExecutor inbound,
+            @Qualifier("clientOutboundChannelExecutor") ThreadPoolTaskExecutor outbound) {
+        return registry -> {
+            bindChannelGauges(registry, "inbound", inbound);
+            bindChannelGauges(registry, "outbound", outbound);
+        };
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor(channelExecutor(properties.getInboundChannel(), "ws-inbound-"));
+        registration.interceptors(new SridSubscriptionInterceptor(properties.getSridClaim()));
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor(channelExecutor(properties.getOutboundChannel(), "ws-outbound-"));
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry config) {
+        WebSocketProperties.Broker broker = properties.getBroker();
+        if (broker.getMode() == WebSocketProperties.BrokerMode.RELAY) {
+            // Relay subscriptions to an external broker so that every replica reaches every subscriber
+            StompBrokerRelayRegistration relay = config.enableStompBrokerRelay("/topic", "/queue")
+                    .setRelayHost(broker.getRelayHost())
+                    .setRelayPort(broker.getRelayPort())
+                    .setClientLogin(broker.getClientLogin())
+                    .setClientPasscode(broker.getClientPasscode())
+                    .setSystemLogin(broker.getSystemLogin())
+                    .setSystemPasscode(broker.getSystemPasscode())
+                    .setSystemHeartbeatSendInterval(broker.getSystemHeartbeat().toMillis())
+                    .setSystemHeartbeatReceiveInterval(broker.getSystemHeartbeat().toMillis())
+                    // Share connected users between replicas so user destinations resolve on any of them
+                    .setUserDestinationBroadcast("/topic/unresolved-user-destination")
+                    .setUserRegistryBroadcast("/topic/simp-user-registry");
+            if (broker.getVirtualHost() != null) {
+                relay.setVirtualHost(broker.getVirtualHost());
+            }
+        } else {
+            // Enable a simple message broker for handling subscriptions and broadcasting
+            long heartbeat = properties.getHeartbeatInterval().toMillis();
+            config.enableSimpleBroker(
+                "/topic",  // For topic-based broadcasting
+                "/queue"   // For user-specific messages
+            )
+                .setHeartbeatValue(new long[] {heartbeat, heartbeat})
+                .setTaskScheduler(webSocketHeartbeatScheduler());
+        }
+        
+        // Set the application destination prefix for messages bound for @MessageMapping methods
+        config.setApplicationDestinationPrefixes("/app");
+        
+        // Configure user destination prefix for user-specific messages
+        config.setUserDestinationPrefix("/user");
+    }
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        // Register the WebSocket endpoint that clients will connect to
+        registry.addEndpoint("/ws")
+               .setAllowedOriginPatterns("*")
+               .withSockJS()
+               .setHeartbeatTime(properties.getHeartbeatInterval().toMillis())
+               .setTaskScheduler(webSocketHeartbeatScheduler());
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // Bound what a slow or misbehaving client can make the server hold in memory
+        registration.setMessageSizeLimit(Math.toIntExact(properties.getMessageSizeLimit().toBytes()))
+                .setSendBufferSizeLimit(Math.toIntExact(properties.getBufferSize().toBytes()))
+                .setSendTimeLimit(Math.toIntExact(properties.getSendTimeLimit().toMillis()))
+                .setTimeToFirstMessage(Math.toIntExact(properties.getConnectionTimeout().toMillis()))
+                .addDecoratorFactory(handler -> new SessionLimitHandlerDecorator(handler, properties.getMaxSessions()));
+    }
+
+    @Override
+    public void setServletContext(ServletContext servletContext) {
+        // The container buffers whole frames before STOMP sees them; its default text buffer is only 8 KB
+        if (servletContext.getAttribute(ServerContainer.class.getName()) instanceof ServerContainer container) {
+            int limit = Math.toIntExact(properties.getMessageSizeLimit().toBytes());
+            container.setDefaultMaxTextMessageBufferSize(limit);
+            container.setDefaultMaxBinaryMessageBufferSize(limit);
+        }
+    }
+
+    /**
+     * Creates the pool of a client channel; it is initialized and shut down as the channel's executor
+     * bean.
+     */
+    private static ThreadPoolTaskExecutor channelExecutor(WebSocketProperties.Channel channel, String threadNamePrefix) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(channel.getCorePoolSize());
+        executor.setMaxPoolSize(channel.getMaxPoolSize());
+        executor.setQueueCapacity(channel.getQueueCapacity());
+        executor.setKeepAliveSeconds(Math.toIntExact(channel.getKeepAlive().toSeconds()));
+        executor.setAllowCoreThreadTimeOut(true);
+        // Spring overwrites the thread name prefix of registered executors, so the threads are named by
+        // their factory instead
+        executor.setThreadFactory(channelThreadFactory(channel.isVirtualThreads(), threadNamePrefix));
+        return executor;
+    }
+
+    private static ThreadFactory channelThreadFactory(boolean virtualThreads, String threadNamePrefix) {
+        if (virtualThreads) {
+            ThreadFactory virtual = ThreadFactoryUtils.virtualThreadFactory(threadNamePrefix);
+            if (virtual != null) {
+                return virtual;
+            }
+            log.info("Virtual threads are not available on this JVM, using platform threads for {}", threadNamePrefix);
+        }
+        return new CustomizableThreadFactory(threadNamePrefix);
+    }
+
+    private static void bindChannelGauges(MeterRegistry registry, String channel, ThreadPoolTaskExecutor executor) {
+        Gauge.builder("mcp.websocket.channel.queued", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("Messages waiting for a free thread")
+                .tag("channel", channel)
+                .register(registry);
+        Gauge.builder("mcp.websocket.channel.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("Threads currently processing a message")
+                .tag("channel", channel)
+                .register(registry);
+        Gauge.builder("mcp.websocket.channel.pool.size", executor, ThreadPoolTaskExecutor::getPoolSize)
+                .description("Threads currently in the pool")
+                .tag("channel", channel)
+                .register(registry);
+    }
+}
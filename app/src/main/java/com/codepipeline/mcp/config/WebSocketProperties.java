@@ -0,0 +1,153 @@
+package com.codepipeline.mcp.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Settings for the STOMP over WebSocket endpoint and its message broker.
+ */
+@Data
+@ConfigurationProperties(prefix = "mcp.client.websocket")
+public class WebSocketProperties {
+
+    /**
+     * Interval at which the in-memory broker and SockJS send heartbeats to idle clients, and at which
+     * the broker expects them from clients; sessions of clients that fall silent are closed.
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(30);
+
+    /**
+     * How long a new WebSocket session may stay open without sending its STOMP CONNECT frame.
+     */
+    private Duration connectionTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Maximum number of concurrent WebSocket sessions per replica; further handshakes are closed with
+     * status 1013 (try again later).
+     */
+    private int maxSessions = 1000;
+
+    /**
+     * Maximum amount of outbound data buffered per session while the client is slow to read; the
+     * session is closed when it is exceeded.
+     */
+    private DataSize bufferSize = DataSize.ofKilobytes(512);
+
+    /**
+     * Maximum time a single send to a client may take before the session is closed.
+     */
+    private Duration sendTimeLimit = Duration.ofSeconds(10);
+
+    /**
+     * Maximum size of an inbound STOMP message.
+     */
+    private DataSize messageSizeLimit = DataSize.ofKilobytes(64);
+
+    /**
+     * JWT claim listing the SRIDs whose change event topics a client may subscribe to; {@code *} grants
+     * all of them.
+     */
+    private String sridClaim = "srids";
+
+    /**
+     * How often connects and disconnects since the previous digest are sent to {@code /topic/presence}
+     * as one message.
+     */
+    private Duration presenceDigestInterval = Duration.ofSeconds(2);
+
+    /**
+     * Pool that processes messages received from clients.
+     */
+    private Channel inboundChannel = new Channel();
+
+    /**
+     * Pool that writes messages to clients, including broadcasts from the broker.
+     */
+    private Channel outboundChannel = new Channel();
+
+    private Broker broker = new Broker();
+
+    public enum BrokerMode {
+        /**
+         * In-memory broker; subscriptions live in this JVM, so only one replica can be run.
+         */
+        SIMPLE,
+
+        /**
+         * Relay to an external STOMP broker shared by all replicas.
+         */
+        RELAY
+    }
+
+    @Data
+    public static class Channel {
+
+        /**
+         * Threads kept alive while the channel is idle.
+         */
+        private int corePoolSize = Runtime.getRuntime().availableProcessors() * 2;
+
+        /**
+         * Threads started once the queue is full; messages are rejected beyond that.
+         */
+        private int maxPoolSize = Runtime.getRuntime().availableProcessors() * 8;
+
+        /**
+         * Messages that may wait for a free thread.
+         */
+        private int queueCapacity = 10_000;
+
+        /**
+         * How long threads above the core size stay alive without work.
+         */
+        private Duration keepAlive = Duration.ofSeconds(60);
+
+        /**
+         * Run the channel's threads as virtual threads when the JVM supports them; the pool sizes
+         * still cap how many messages are processed at once.
+         */
+        private boolean virtualThreads = false;
+    }
+
+    @Data
+    public static class Broker {
+
+        private BrokerMode mode = BrokerMode.SIMPLE;
+
+        /**
+         * Host of the external STOMP broker (RELAY mode).
+         */
+        private String relayHost = "localhost";
+
+        /**
+         * STOMP port of the external broker (RELAY mode).
+         */
+        private int relayPort = 61613;
+
+        /**
+         * Credentials of the broker connection opened for each WebSocket client.
+         */
+        private String clientLogin = "guest";
+        private String clientPasscode = "guest";
+
+        /**
+         * Credentials of the shared connection the application uses to send messages, such as change
+         * events, that do not originate from a client.
+         */
+        private String systemLogin = "guest";
+        private String systemPasscode = "guest";
+
+        /**
+         * Virtual host sent in STOMP CONNECT frames; defaults to the relay host.
+         */
+        private String virtualHost;
+
+        /**
+         * Heartbeat interval of the system connection in each direction.
+         */
+        private Duration systemHeartbeat = Duration.ofSeconds(10);
+    }
+}
@@ -0,0 +1,211 @@
+package com.codepipeline.mcp.controller;
+
+import com.codepipeline.mcp.dto.AssignmentDto;
+import com.codepipeline.mcp.dto.AssignmentFilter;
+import com.codepipeline.mcp.dto.CursorPage;
+import com.codepipeline.mcp.dto.DeployRequest;
+import com.codepipeline.mcp.dto.GenerateRequest;
+import com.codepipeline.mcp.dto.IspwOperationResponse;
+import com.codepipeline.mcp.dto.PromoteRequest;
+import com.codepipeline.mcp.dto.TaskBatchResponse;
+import com.codepipeline.mcp.dto.TaskDto;
+import com.codepipeline.mcp.service.AssignmentExportService;
+import com.codepipeline.mcp.service.AssignmentService;
+import com.codepipeline.mcp.service.IspwOperationService;
+import com.codepipeline.mcp.service.TaskService;
+import com.codepipeline.mcp.util.FieldSelection;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/ispw/{srid}/assignments")
+@RequiredArgsConstructor
+@Tag(name = "Assignments", description = "Operations related to ISPW assignments")
+@SecurityRequirement(name = "bearerAuth")
+public class AssignmentController {
+
+    private final AssignmentService assignmentService;
+    private final AssignmentExportService assignmentExportService;
+    private final TaskService taskService;
+    private final IspwOperationService ispwOperationService;
+    private final ObjectMapper objectMapper;
+
+    @GetMapping
+    @PreAuthorize("hasRole('ROLE_USER')")
+    @Operation(summary = "Get a page of assignments for a given SRID")
+    public ResponseEntity<CursorPage<?>> getAssignments(
+            @PathVariable String srid,
+            @ParameterObject AssignmentFilter filter,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String include,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        
+        CursorPage<AssignmentDto> assignments =
+                assignmentService.getAssignments(srid, filter, fields, include, cursor, limit);
+        return ResponseEntity.ok(FieldSelection.isSparse(fields)
+                ? FieldSelection.withoutNulls(assignments, objectMapper)
+                : assignments);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ROLE_USER')")
+    @Operation(summary = "Stream all assignments with their tasks for a given SRID as NDJSON")
+    public ResponseEntity<StreamingResponseBody> exportAssignments(
+            @PathVariable String srid) {
+        
+        StreamingResponseBody body = outputStream -> assignmentExportService.exportAssignments(srid, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @GetMapping("/{assignmentId}")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    @Operation(summary = "Get an assignment by ID")
+    public ResponseEntity<AssignmentDto> getAssignment(
+            @PathVariable String srid,
+            @PathVariable String assignmentId) {
+        
+        AssignmentDto assignment = assignmentService.getAssignment(srid, assignmentId);
+        return ResponseEntity.ok(assignment);
+    }
+
+    @GetMapping("/{assignmentId}/tasks")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    @Operation(summary = "Get tasks for an assignment")
+    public ResponseEntity<List<TaskDto>> getAssignmentTasks(
+            @PathVariable String srid,
+            @PathVariable String assignmentId) {
+        
+        List<TaskDto> tasks = assignmentService.getAssignmentTasks(srid, assignmentId);
+        return ResponseEntity.ok(tasks);
+    }
+
+    @PostMapping("/{assignmentId}/tasks:batch")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    @Operation(summary = "Create or update many tasks of an assignment in one request")
+    @Validated(TaskDto.OnCreate.class)
+    public ResponseEntity<TaskBatchResponse> batchUpsertTasks(
+            @PathVariable String srid,
+            @PathVariable String assignmentId,
+            @Valid @RequestBody List<TaskDto> tasks) {
+        
+        TaskBatchResponse response = taskService.upsertTasks(srid, assignmentId, tasks);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/{assignmentId}/generate")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    @Operation(summary = "Generate an assignment in ISPW")
+    public CompletableFuture<ResponseEntity<IspwOperationResponse>> generateAssignment(
+            @PathVariable String srid,
+            @PathVariable String assignmentId,
+            @Valid @RequestBody GenerateRequest request) {
+        
+        return ispwOperationService.generate(srid, assignmentId, request).thenApply(ResponseEntity::ok);
+    }
+
+    @PostMapping("/{assignmentId}/promote")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    @Operation(summary = "Promote an assignment to the next level in ISPW")
+    public CompletableFuture<ResponseEntity<IspwOperationResponse>> promoteAssignment(
+            @PathVariable String srid,
+            @PathVariable String assignmentId,
+            @Valid @RequestBody PromoteRequest request) {
+        
+        return ispwOperationService.promote(srid, assignmentId, request).thenApply(ResponseEntity::ok);
+    }
+
+    @PostMapping("/{assignmentId}/deploy")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    @Operation(summary = "Deploy an assignment in ISPW")
+    public CompletableFuture<ResponseEntity<IspwOperationResponse>> deployAssignment(
+            @PathVariable String srid,
+            @PathVariable String assignmentId,
+            @Valid @RequestBody DeployRequest request) {
+        
+        return ispwOperationService.deploy(srid, assignmentId, request).thenApply(ResponseEntity::ok);
+    }
+
+    @PostMapping("/generate")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    @Operation(summary = "Generate several assignments in ISPW concurrently")
+    public CompletableFuture<ResponseEntity<Map<String, IspwOperationResponse>>> generateAssignments(
+            @PathVariable String srid,
+            @RequestParam("assignmentId") List<String> assignmentIds,
+            @Valid @RequestBody GenerateRequest request) {
+        
+        return ispwOperationService.generateAll(srid, assignmentIds, request).thenApply(ResponseEntity::ok);
+    }
+
+    @PostMapping("/promote")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    @Operation(summary = "Promote several assignments in ISPW concurrently")
+    public CompletableFuture<ResponseEntity<Map<String, IspwOperationResponse>>> promoteAssignments(
+            @PathVariable String srid,
+            @RequestParam("assignmentId") List<String> assignmentIds,
+            @Valid @RequestBody PromoteRequest request) {
+        
+        return ispwOperationService.promoteAll(srid, assignmentIds, request).thenApply(ResponseEntity::ok);
+    }
+
+    @PostMapping
+    @PreAuthorize("hasRole('ROLE_USER')")
+    @Operation(summary = "Create a new assignment")
+    public ResponseEntity<AssignmentDto> createAssignment(
+            @PathVariable String srid,
+            @Valid @RequestBody AssignmentDto assignmentDto) {
+        
+        AssignmentDto createdAssignment = assignmentService.createAssignment(srid, assignmentDto);
+        
+        URI location = ServletUriComponentsBuilder
+                .fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(createdAssignment.getAssignmentId())
+                .toUri();
+                
+        return ResponseEntity.created(location).body(createdAssignment);
+    }
+
+    @PutMapping("/{assignmentId}")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    @Operation(summary = "Update an existing assignment")
+    public ResponseEntity<AssignmentDto> updateAssignment(
+            @PathVariable String srid,
+            @PathVariable String assignmentId,
+            @Valid @RequestBody AssignmentDto assignmentDto) {
+        
+        assignmentDto.setAssignmentId(assignmentId);
+        AssignmentDto updatedAssignment = assignmentService.updateAssignment(srid, assignmentId, assignmentDto);
+        return ResponseEntity.ok(updatedAssignment);
+    }
+
+    @DeleteMapping("/{assignmentId}")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @Operation(summary = "Delete an assignment")
+    public ResponseEntity<Void> deleteAssignment(
+            @PathVariable String srid,
+            @PathVariable String assignmentId) {
+        
+        assignmentService.deleteAssignment(srid, assignmentId);
+        return ResponseEntity.noContent().build();
+    }
+}
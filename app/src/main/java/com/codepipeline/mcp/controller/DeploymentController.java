@@ -0,0 +1,32 @@
+package com.codepipeline.mcp.controller;
+
+import com.codepipeline.mcp.dto.DeploymentJobDto;
+import com.codepipeline.mcp.service.DeploymentService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/ispw/{srid}/deployments")
+@RequiredArgsConstructor
+@Tag(name = "Deployments", description = "Status of queued and executed deployments")
+@SecurityRequirement(name = "bearerAuth")
+public class DeploymentController {
+
+    private final DeploymentService deploymentService;
+
+    @GetMapping("/{jobId}")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    @Operation(summary = "Get the status of a deployment job")
+    public ResponseEntity<DeploymentJobDto> getDeployment(
+            @PathVariable String srid,
+            @PathVariable String jobId) {
+        
+        DeploymentJobDto job = deploymentService.getJob(srid, jobId);
+        return ResponseEntity.ok(job);
+    }
+}
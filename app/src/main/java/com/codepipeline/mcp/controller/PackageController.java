@@ -0,0 +1,92 @@
+package com.codepipeline.mcp.controller;
+
+import com.codepipeline.mcp.dto.CursorPage;
+import com.codepipeline.mcp.dto.PackageDto;
+import com.codepipeline.mcp.service.PackageService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+
+@RestController
+@RequestMapping("/ispw/{srid}/packages")
+@RequiredArgsConstructor
+@Tag(name = "Packages", description = "Operations related to ISPW packages")
+@SecurityRequirement(name = "bearerAuth")
+public class PackageController {
+
+    private final PackageService packageService;
+
+    @GetMapping
+    @PreAuthorize("hasRole('ROLE_USER')")
+    @Operation(summary = "Get a page of packages for a given SRID")
+    public ResponseEntity<CursorPage<PackageDto>> getPackages(
+            @PathVariable String srid,
+            @RequestParam(required = false) String packageId,
+            @RequestParam(required = false) String application,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        
+        CursorPage<PackageDto> packages = packageService.getPackages(
+                srid, packageId, application, status, cursor, limit);
+        return ResponseEntity.ok(packages);
+    }
+
+    @GetMapping("/{packageId}")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    @Operation(summary = "Get a package by ID; supports If-None-Match for status polling")
+    public ResponseEntity<PackageDto> getPackage(
+            @PathVariable String srid,
+            @PathVariable String packageId,
+            WebRequest webRequest) {
+        
+        PackageDto ispwPackage = packageService.getPackage(srid, packageId);
+        String etag = "\"" + ispwPackage.getVersion() + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(ispwPackage);
+    }
+
+    @PostMapping
+    @PreAuthorize("hasRole('ROLE_USER')")
+    @Operation(summary = "Create a new package")
+    public ResponseEntity<PackageDto> createPackage(
+            @PathVariable String srid,
+            @Validated(PackageDto.OnCreate.class) @RequestBody PackageDto packageDto) {
+        
+        PackageDto createdPackage = packageService.createPackage(srid, packageDto);
+        URI location = ServletUriComponentsBuilder
+                .fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(createdPackage.getPackageId())
+                .toUri();
+        return ResponseEntity.created(location).body(createdPackage);
+    }
+
+    @PutMapping("/{packageId}")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    @Operation(summary = "Update a package")
+    public ResponseEntity<PackageDto> updatePackage(
+            @PathVariable String srid,
+            @PathVariable String packageId,
+            @Valid @RequestBody PackageDto packageDto) {
+        
+        PackageDto updatedPackage = packageService.updatePackage(srid, packageId, packageDto);
+        return ResponseEntity.ok(updatedPackage);
+    }
+}
@@ -0,0 +1,28 @@
+package com.codepipeline.mcp.controller;
+
+import com.codepipeline.mcp.dto.PresenceSnapshotDto;
+import com.codepipeline.mcp.service.PresenceService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/presence")
+@RequiredArgsConstructor
+@Tag(name = "Presence", description = "Users connected over WebSocket")
+@SecurityRequirement(name = "bearerAuth")
+public class PresenceController {
+
+    private final PresenceService presenceService;
+
+    @GetMapping
+    @PreAuthorize("hasRole('ROLE_USER')")
+    @Operation(summary = "List the users connected to this instance over WebSocket")
+    public ResponseEntity<PresenceSnapshotDto> getPresence() {
+        return ResponseEntity.ok(presenceService.getSnapshot());
+    }
+}
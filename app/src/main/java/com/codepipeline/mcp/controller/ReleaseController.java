@@ -1,20 +1,26 @@
 package com.codepipeline.mcp.controller;
 
+import com.codepipeline.mcp.dto.CursorPage;
 import com.codepipeline.mcp.dto.DeployRequest;
+import com.codepipeline.mcp.dto.DeploymentJobDto;
 import com.codepipeline.mcp.dto.ReleaseDto;
+import com.codepipeline.mcp.dto.ReleaseFilter;
+import com.codepipeline.mcp.service.DeploymentService;
 import com.codepipeline.mcp.service.ReleaseService;
+import com.codepipeline.mcp.util.FieldSelection;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
-import java.util.List;
 
 @RestController
 @RequestMapping("/ispw/{srid}/releases")
@@ -24,17 +30,23 @@ import java.util.List;
 public class ReleaseController {
 
     private final ReleaseService releaseService;
+    private final DeploymentService deploymentService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
     @PreAuthorize("hasRole('ROLE_USER')")
-    @Operation(summary = "Get all releases for a given SRID")
-    public ResponseEntity<List<ReleaseDto>> getReleases(
+    @Operation(summary = "Get a page of releases for a given SRID")
+    public ResponseEntity<CursorPage<?>> getReleases(
             @PathVariable String srid,
-            @RequestParam(required = false) String application,
-            @RequestParam(required = false) String status) {
+            @ParameterObject ReleaseFilter filter,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
         
-        List<ReleaseDto> releases = releaseService.getReleases(srid, application, status);
-        return ResponseEntity.ok(releases);
+        CursorPage<ReleaseDto> releases = releaseService.getReleases(srid, filter, fields, cursor, limit);
+        return ResponseEntity.ok(FieldSelection.isSparse(fields)
+                ? FieldSelection.withoutNulls(releases, objectMapper)
+                : releases);
     }
 
     @GetMapping("/{releaseId}")
@@ -92,13 +104,18 @@ public class ReleaseController {
 
     @PostMapping("/{releaseId}/deploy")
     @PreAuthorize("hasRole('ROLE_USER')")
-    @Operation(summary = "Deploy a release")
-    public ResponseEntity<ReleaseDto> deployRelease(
+    @Operation(summary = "Queue a deployment of a release")
+    public ResponseEntity<DeploymentJobDto> deployRelease(
             @PathVariable String srid,
             @PathVariable String releaseId,
             @Valid @RequestBody DeployRequest deployRequest) {
         
-        ReleaseDto deployedRelease = releaseService.deployRelease(srid, releaseId, deployRequest);
-        return ResponseEntity.ok(deployedRelease);
+        DeploymentJobDto job = deploymentService.deployRelease(srid, releaseId, deployRequest);
+        URI location = ServletUriComponentsBuilder
+                .fromCurrentContextPath()
+                .path("/ispw/{srid}/deployments/{jobId}")
+                .buildAndExpand(srid, job.getId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(job);
     }
 }
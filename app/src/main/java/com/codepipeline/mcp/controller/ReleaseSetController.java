@@ -1,7 +1,10 @@
 package com.codepipeline.mcp.controller;
 
+import com.codepipeline.mcp.dto.CursorPage;
 import com.codepipeline.mcp.dto.DeployRequest;
+import com.codepipeline.mcp.dto.DeploymentJobDto;
 import com.codepipeline.mcp.dto.ReleaseSetDto;
+import com.codepipeline.mcp.service.DeploymentService;
 import com.codepipeline.mcp.service.ReleaseSetService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -14,7 +17,6 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
-import java.util.List;
 
 @RestController
 @RequestMapping("/ispw/{srid}/sets")
@@ -24,14 +26,17 @@ import java.util.List;
 public class ReleaseSetController {
 
     private final ReleaseSetService releaseSetService;
+    private final DeploymentService deploymentService;
 
     @GetMapping
     @PreAuthorize("hasRole('ROLE_USER')")
-    @Operation(summary = "Get all release sets for a given SRID")
-    public ResponseEntity<List<ReleaseSetDto>> getReleaseSets(
-            @PathVariable String srid) {
+    @Operation(summary = "Get a page of release sets for a given SRID")
+    public ResponseEntity<CursorPage<ReleaseSetDto>> getReleaseSets(
+            @PathVariable String srid,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
         
-        List<ReleaseSetDto> releaseSets = releaseSetService.getReleaseSets(srid);
+        CursorPage<ReleaseSetDto> releaseSets = releaseSetService.getReleaseSets(srid, cursor, limit);
         return ResponseEntity.ok(releaseSets);
     }
 
@@ -93,13 +98,18 @@ public class ReleaseSetController {
 
     @PostMapping("/{setId}/deploy")
     @PreAuthorize("hasRole('ROLE_USER')")
-    @Operation(summary = "Deploy a release set")
-    public ResponseEntity<ReleaseSetDto> deployReleaseSet(
+    @Operation(summary = "Queue a deployment of a release set")
+    public ResponseEntity<DeploymentJobDto> deployReleaseSet(
             @PathVariable String srid,
             @PathVariable String setId,
             @Valid @RequestBody DeployRequest deployRequest) {
         
-        ReleaseSetDto deployedReleaseSet = releaseSetService.deployReleaseSet(srid, setId, deployRequest);
-        return ResponseEntity.ok(deployedReleaseSet);
+        DeploymentJobDto job = deploymentService.deployReleaseSet(srid, setId, deployRequest);
+        URI location = ServletUriComponentsBuilder
+                .fromCurrentContextPath()
+                .path("/ispw/{srid}/deployments/{jobId}")
+                .buildAndExpand(srid, job.getId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(job);
     }
 }
@@ -1,5 +1,6 @@
 package com.codepipeline.mcp.controller;
 
+import com.codepipeline.mcp.dto.CursorPage;
 import com.codepipeline.mcp.dto.TaskDto;
 import com.codepipeline.mcp.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -9,11 +10,11 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
-import java.util.List;
 
 @RestController
 @RequestMapping("/ispw/{srid}/assignments/{assignmentId}/tasks")
@@ -26,12 +27,14 @@ public class TaskController {
 
     @GetMapping
     @PreAuthorize("hasRole('ROLE_USER')")
-    @Operation(summary = "Get all tasks for an assignment")
-    public ResponseEntity<List<TaskDto>> getTasks(
+    @Operation(summary = "Get a page of tasks for an assignment")
+    public ResponseEntity<CursorPage<TaskDto>> getTasks(
             @PathVariable String srid,
-            @PathVariable String assignmentId) {
+            @PathVariable String assignmentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
         
-        List<TaskDto> tasks = taskService.getTasks(srid, assignmentId);
+        CursorPage<TaskDto> tasks = taskService.getTasks(srid, assignmentId, cursor, limit);
         return ResponseEntity.ok(tasks);
     }
 
@@ -53,7 +56,7 @@ public class TaskController {
     public ResponseEntity<TaskDto> createTask(
             @PathVariable String srid,
             @PathVariable String assignmentId,
-            @Valid @RequestBody TaskDto taskDto) {
+            @Validated(TaskDto.OnCreate.class) @RequestBody TaskDto taskDto) {
         
         TaskDto createdTask = taskService.createTask(srid, assignmentId, taskDto);
         
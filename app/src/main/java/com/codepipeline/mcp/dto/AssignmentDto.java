@@ -1,14 +1,22 @@
 package com.codepipeline.mcp.dto;
 
 import com.codepipeline.mcp.model.Assignment;
+import com.codepipeline.mcp.model.AssignmentStatus;
 import com.codepipeline.mcp.model.Task;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 @Data
@@ -16,13 +24,19 @@ import java.util.stream.Collectors;
 @NoArgsConstructor
 @AllArgsConstructor
 public class AssignmentDto {
+
+    /**
+     * Scalar fields a list page can select with {@code fields=}, in response order, with their setters.
+     */
+    public static final Map<String, BiConsumer<AssignmentDto, Object>> LIST_FIELDS = listFields();
+
     private String id;
     private String assignmentId;
     private String srid;
     private String application;
     private String stream;
     private String owner;
-    private String status;
+    private AssignmentStatus status;
     private String releaseId;
     private String setid;
     private String level;
@@ -31,6 +45,10 @@ public class AssignmentDto {
     private LocalDateTime updatedAt;
 
     public static AssignmentDto fromEntity(Assignment assignment) {
+        return fromEntity(assignment, assignment.getTasks());
+    }
+
+    public static AssignmentDto fromEntity(Assignment assignment, Collection<Task> tasks) {
         return AssignmentDto.builder()
                 .id(assignment.getId())
                 .assignmentId(assignment.getAssignmentId())
@@ -42,7 +60,7 @@ public class AssignmentDto {
                 .releaseId(assignment.getReleaseId())
                 .setid(assignment.getSetid())
                 .level(assignment.getLevel())
-                .tasks(assignment.getTasks().stream()
+                .tasks(tasks.stream()
                         .map(TaskDto::fromEntity)
                         .collect(Collectors.toList()))
                 .createdAt(assignment.getCreatedAt())
@@ -50,6 +68,18 @@ public class AssignmentDto {
                 .build();
     }
 
+    /**
+     * Builds a DTO from a projection row whose elements are aliased with {@link #LIST_FIELDS} names.
+     * Fields that were not selected stay {@code null}.
+     */
+    public static AssignmentDto fromTuple(Tuple tuple) {
+        AssignmentDto dto = new AssignmentDto();
+        for (TupleElement<?> element : tuple.getElements()) {
+            LIST_FIELDS.get(element.getAlias()).accept(dto, tuple.get(element));
+        }
+        return dto;
+    }
+
     public static Assignment toEntity(AssignmentDto dto) {
         Assignment assignment = new Assignment();
         assignment.setId(dto.getId());
@@ -72,4 +102,21 @@ public class AssignmentDto {
         
         return assignment;
     }
+
+    private static Map<String, BiConsumer<AssignmentDto, Object>> listFields() {
+        Map<String, BiConsumer<AssignmentDto, Object>> fields = new LinkedHashMap<>();
+        fields.put("id", (dto, value) -> dto.setId((String) value));
+        fields.put("assignmentId", (dto, value) -> dto.setAssignmentId((String) value));
+        fields.put("srid", (dto, value) -> dto.setSrid((String) value));
+        fields.put("application", (dto, value) -> dto.setApplication((String) value));
+        fields.put("stream", (dto, value) -> dto.setStream((String) value));
+        fields.put("owner", (dto, value) -> dto.setOwner((String) value));
+        fields.put("status", (dto, value) -> dto.setStatus((AssignmentStatus) value));
+        fields.put("releaseId", (dto, value) -> dto.setReleaseId((String) value));
+        fields.put("setid", (dto, value) -> dto.setSetid((String) value));
+        fields.put("level", (dto, value) -> dto.setLevel((String) value));
+        fields.put("createdAt", (dto, value) -> dto.setCreatedAt((LocalDateTime) value));
+        fields.put("updatedAt", (dto, value) -> dto.setUpdatedAt((LocalDateTime) value));
+        return Collections.unmodifiableMap(fields);
+    }
 }
@@ -0,0 +1,32 @@
+package com.codepipeline.mcp.dto;
+
+import com.codepipeline.mcp.model.AssignmentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * Optional filters for assignment list pages, bound from query parameters. Absent or blank fields do not
+ * restrict the result. {@code createdFrom} is inclusive and {@code createdTo} exclusive.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssignmentFilter {
+    private String application;
+    private AssignmentStatus status;
+    private String owner;
+    private String stream;
+    private String level;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdTo;
+}
@@ -0,0 +1,47 @@
+package com.codepipeline.mcp.dto;
+
+import com.codepipeline.mcp.model.OutboxEvent;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Change notification sent to {@code /topic/ispw/{srid}/...} subscribers. It identifies the changed
+ * resource and its new status; clients fetch the resource over REST if they need more.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChangeEventDto {
+
+    /**
+     * Event type such as {@code assignment:updated} or {@code set:deleted}.
+     */
+    private String type;
+    private String srid;
+    private String id;
+
+    /**
+     * Assignment of a task or release of a release set.
+     */
+    private String parentId;
+    private String status;
+    private LocalDateTime occurredAt;
+
+    public static ChangeEventDto fromEntity(OutboxEvent event) {
+        return ChangeEventDto.builder()
+                .type(event.getTopic().eventType(event.getChangeType()))
+                .srid(event.getSrid())
+                .id(event.getResourceId())
+                .parentId(event.getParentId())
+                .status(event.getStatus())
+                .occurredAt(event.getCreatedAt())
+                .build();
+    }
+}
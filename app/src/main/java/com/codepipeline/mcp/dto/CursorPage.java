@@ -0,0 +1,34 @@
+package com.codepipeline.mcp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * A page of results addressed by an opaque keyset cursor rather than an offset.
+ * {@code nextCursor} is {@code null} when there are no further results.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasMore;
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return CursorPage.<R>builder()
+                .items(items.stream()
+                        .map(mapper)
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
+}
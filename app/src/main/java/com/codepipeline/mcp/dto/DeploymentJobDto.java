@@ -0,0 +1,49 @@
+package com.codepipeline.mcp.dto;
+
+import com.codepipeline.mcp.model.DeploymentJob;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeploymentJobDto {
+    private String id;
+    private String srid;
+    private DeploymentJob.TargetType targetType;
+    private String targetId;
+    private String level;
+    private String environment;
+    private String description;
+    private String requestedBy;
+    private DeploymentJob.Status status;
+    private int attempts;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+
+    public static DeploymentJobDto fromEntity(DeploymentJob job) {
+        return DeploymentJobDto.builder()
+                .id(job.getId())
+                .srid(job.getSrid())
+                .targetType(job.getTargetType())
+                .targetId(job.getTargetId())
+                .level(job.getLevel())
+                .environment(job.getEnvironment())
+                .description(job.getDescription())
+                .requestedBy(job.getRequestedBy())
+                .status(job.getStatus())
+                .attempts(job.getAttempts())
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .completedAt(job.getCompletedAt())
+                .build();
+    }
+}
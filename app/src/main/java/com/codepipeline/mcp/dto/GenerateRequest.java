@@ -0,0 +1,15 @@
+package com.codepipeline.mcp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GenerateRequest {
+    private String level;
+    private String runtimeConfiguration;
+}
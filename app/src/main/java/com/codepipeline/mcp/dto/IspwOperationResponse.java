@@ -0,0 +1,31 @@
+package com.codepipeline.mcp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Result of a generate, promote or deploy operation as reported by ISPW/CES.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IspwOperationResponse {
+
+    public enum Status {
+        STARTED,
+        IN_PROGRESS,
+        COMPLETED,
+        FAILED
+    }
+
+    private String operationId;
+    private Status status;
+    private String message;
+    private String url;
+    private OffsetDateTime startTime;
+}
@@ -0,0 +1,73 @@
+package com.codepipeline.mcp.dto;
+
+import com.codepipeline.mcp.model.IspwPackage;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import jakarta.validation.groups.Default;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PackageDto {
+
+    /**
+     * Validation group for creating a package; an update takes the package ID from the path instead.
+     */
+    public interface OnCreate extends Default {}
+
+    private String id;
+
+    @NotBlank(groups = OnCreate.class, message = "Package ID is required")
+    @Size(max = 255, message = "Package ID must be at most 255 characters")
+    private String packageId;
+
+    private String srid;
+
+    @Size(max = 255, message = "Description must be at most 255 characters")
+    private String description;
+
+    @Size(max = 255, message = "Owner must be at most 255 characters")
+    private String owner;
+
+    @Size(max = 255, message = "Application must be at most 255 characters")
+    private String application;
+
+    @Size(max = 255, message = "Status must be at most 255 characters")
+    private String status;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long version;
+
+    public static PackageDto fromEntity(IspwPackage ispwPackage) {
+        return PackageDto.builder()
+                .id(ispwPackage.getId())
+                .packageId(ispwPackage.getPackageId())
+                .srid(ispwPackage.getSrid())
+                .description(ispwPackage.getDescription())
+                .owner(ispwPackage.getOwner())
+                .application(ispwPackage.getApplication())
+                .status(ispwPackage.getStatus())
+                .createdAt(ispwPackage.getCreatedAt())
+                .updatedAt(ispwPackage.getUpdatedAt())
+                .version(ispwPackage.getVersion())
+                .build();
+    }
+
+    public static IspwPackage toEntity(PackageDto dto) {
+        return IspwPackage.builder()
+                .packageId(dto.getPackageId())
+                .description(dto.getDescription())
+                .owner(dto.getOwner())
+                .application(dto.getApplication())
+                .status(dto.getStatus())
+                .build();
+    }
+}
@@ -0,0 +1,42 @@
+package com.codepipeline.mcp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Presence changes of one instance sent to {@code /topic/presence} subscribers, covering every connect
+ * and disconnect on that instance since its previous digest. A user who connected and disconnected
+ * again in between appears in neither list.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresenceDigestDto {
+
+    /**
+     * Instance whose sessions the digest describes; other instances publish their own digests.
+     */
+    private String instanceId;
+
+    /**
+     * Users whose first session on this instance connected since the previous digest.
+     */
+    private List<String> joined;
+
+    /**
+     * Users whose last session on this instance disconnected since the previous digest.
+     */
+    private List<String> left;
+
+    /**
+     * Number of users online on this instance after the changes.
+     */
+    private int onlineCount;
+    private LocalDateTime timestamp;
+}
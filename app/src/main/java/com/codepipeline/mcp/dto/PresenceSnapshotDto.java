@@ -0,0 +1,24 @@
+package com.codepipeline.mcp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Users currently connected to this instance over WebSocket.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresenceSnapshotDto {
+
+    private String instanceId;
+    private List<String> users;
+    private int sessionCount;
+    private LocalDateTime timestamp;
+}
@@ -0,0 +1,21 @@
+package com.codepipeline.mcp.dto;
+
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PromoteRequest {
+    private String level;
+    /**
+     * S = Standard, I = Incidental, E = Emergency.
+     */
+    @Pattern(regexp = "[SIE]", message = "Change type must be S, I or E")
+    private String changeType;
+    private String executionStatus;
+}
@@ -0,0 +1,114 @@
+package com.codepipeline.mcp.dto;
+
+import com.codepipeline.mcp.model.Release;
+import com.codepipeline.mcp.model.ReleaseSet;
+import com.codepipeline.mcp.model.ReleaseStatus;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReleaseDto {
+
+    /**
+     * Scalar fields a list page can select with {@code fields=}, in response order, with their setters.
+     */
+    public static final Map<String, BiConsumer<ReleaseDto, Object>> LIST_FIELDS = listFields();
+
+    private String id;
+    private String releaseId;
+    private String srid;
+    private String application;
+    private String stream;
+    private String owner;
+    private ReleaseStatus status;
+    private String description;
+    private List<ReleaseSetDto> sets;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static ReleaseDto fromEntity(Release release) {
+        return fromEntity(release, release.getSets());
+    }
+
+    public static ReleaseDto fromEntity(Release release, Collection<ReleaseSet> sets) {
+        return ReleaseDto.builder()
+                .id(release.getId())
+                .releaseId(release.getReleaseId())
+                .srid(release.getSrid())
+                .application(release.getApplication())
+                .stream(release.getStream())
+                .owner(release.getOwner())
+                .status(release.getStatus())
+                .description(release.getDescription())
+                .sets(sets.stream()
+                        .map(ReleaseSetDto::fromEntity)
+                        .collect(Collectors.toList()))
+                .createdAt(release.getCreatedAt())
+                .updatedAt(release.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * Builds a DTO from a projection row whose elements are aliased with {@link #LIST_FIELDS} names.
+     * Fields that were not selected stay {@code null}.
+     */
+    public static ReleaseDto fromTuple(Tuple tuple) {
+        ReleaseDto dto = new ReleaseDto();
+        for (TupleElement<?> element : tuple.getElements()) {
+            LIST_FIELDS.get(element.getAlias()).accept(dto, tuple.get(element));
+        }
+        return dto;
+    }
+
+    public static Release toEntity(ReleaseDto dto) {
+        Release release = new Release();
+        release.setId(dto.getId());
+        release.setReleaseId(dto.getReleaseId());
+        release.setSrid(dto.getSrid());
+        release.setApplication(dto.getApplication());
+        release.setStream(dto.getStream());
+        release.setOwner(dto.getOwner());
+        release.setStatus(dto.getStatus());
+        release.setDescription(dto.getDescription());
+        
+        if (dto.getSets() != null) {
+            dto.getSets().forEach(setDto -> {
+                ReleaseSet releaseSet = ReleaseSetDto.toEntity(setDto);
+                release.addSet(releaseSet);
+            });
+        }
+        
+        return release;
+    }
+
+    private static Map<String, BiConsumer<ReleaseDto, Object>> listFields() {
+        Map<String, BiConsumer<ReleaseDto, Object>> fields = new LinkedHashMap<>();
+        fields.put("id", (dto, value) -> dto.setId((String) value));
+        fields.put("releaseId", (dto, value) -> dto.setReleaseId((String) value));
+        fields.put("srid", (dto, value) -> dto.setSrid((String) value));
+        fields.put("application", (dto, value) -> dto.setApplication((String) value));
+        fields.put("stream", (dto, value) -> dto.setStream((String) value));
+        fields.put("owner", (dto, value) -> dto.setOwner((String) value));
+        fields.put("status", (dto, value) -> dto.setStatus((ReleaseStatus) value));
+        fields.put("description", (dto, value) -> dto.setDescription((String) value));
+        fields.put("createdAt", (dto, value) -> dto.setCreatedAt((LocalDateTime) value));
+        fields.put("updatedAt", (dto, value) -> dto.setUpdatedAt((LocalDateTime) value));
+        return Collections.unmodifiableMap(fields);
+    }
+}
@@ -0,0 +1,31 @@
+package com.codepipeline.mcp.dto;
+
+import com.codepipeline.mcp.model.ReleaseStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * Optional filters for release list pages, bound from query parameters. Absent or blank fields do not
+ * restrict the result. {@code createdFrom} is inclusive and {@code createdTo} exclusive.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReleaseFilter {
+    private String application;
+    private ReleaseStatus status;
+    private String owner;
+    private String stream;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdTo;
+}
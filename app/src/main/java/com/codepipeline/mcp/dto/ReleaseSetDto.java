@@ -1,6 +1,9 @@
 package com.codepipeline.mcp.dto;
 
+import com.codepipeline.mcp.model.DeploymentStatus;
 import com.codepipeline.mcp.model.ReleaseSet;
+import com.codepipeline.mcp.model.ReleaseStatus;
+import com.codepipeline.mcp.util.MergeUtils;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,12 +21,12 @@ public class ReleaseSetDto {
 
   private String id;
   private String setId;
-  private String status;
+  private ReleaseStatus status;
   private String owner;
   private String description;
   private String deployedBy;
   private LocalDateTime deployedAt;
-  private String deploymentStatus;
+  private DeploymentStatus deploymentStatus;
   private LocalDateTime createdAt;
   private LocalDateTime updatedAt;
 
@@ -66,4 +69,29 @@ public class ReleaseSetDto {
         .deploymentStatus(dto.getDeploymentStatus())
         .build();
   }
+
+  /**
+   * Copies the updatable fields of the DTO onto the release set, touching only fields whose value
+   * differs. A missing {@code deployedAt} keeps the recorded deployment time.
+   *
+   * @param dto the ReleaseSetDto
+   * @param releaseSet the managed ReleaseSet entity
+   * @return {@code true} if any field changed
+   */
+  public static boolean updateEntity(ReleaseSetDto dto, ReleaseSet releaseSet) {
+    boolean changed = MergeUtils.setIfChanged(
+        releaseSet.getStatus(), dto.getStatus(), releaseSet::setStatus);
+    changed |= MergeUtils.setIfChanged(releaseSet.getOwner(), dto.getOwner(), releaseSet::setOwner);
+    changed |= MergeUtils.setIfChanged(
+        releaseSet.getDescription(), dto.getDescription(), releaseSet::setDescription);
+    changed |= MergeUtils.setIfChanged(
+        releaseSet.getDeployedBy(), dto.getDeployedBy(), releaseSet::setDeployedBy);
+    if (dto.getDeployedAt() != null) {
+      changed |= MergeUtils.setIfChanged(
+          releaseSet.getDeployedAt(), dto.getDeployedAt(), releaseSet::setDeployedAt);
+    }
+    changed |= MergeUtils.setIfChanged(
+        releaseSet.getDeploymentStatus(), dto.getDeploymentStatus(), releaseSet::setDeploymentStatus);
+    return changed;
+  }
 }
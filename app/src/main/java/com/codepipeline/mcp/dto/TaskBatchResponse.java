@@ -0,0 +1,19 @@
+package com.codepipeline.mcp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchResponse {
+    private int created;
+    private int updated;
+    private int rejected;
+    private List<TaskBatchResult> results;
+}
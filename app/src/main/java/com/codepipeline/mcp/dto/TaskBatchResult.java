@@ -0,0 +1,30 @@
+package com.codepipeline.mcp.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a single item in a batch task request, reported in request order.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskBatchResult {
+
+    public enum Outcome {
+        CREATED,
+        UPDATED,
+        REJECTED
+    }
+
+    private int index;
+    private String taskId;
+    private Outcome outcome;
+    private String message;
+    private TaskDto task;
+}
@@ -0,0 +1,111 @@
+package com.codepipeline.mcp.dto;
+
+import com.codepipeline.mcp.model.Task;
+import com.codepipeline.mcp.model.TaskStatus;
+import com.codepipeline.mcp.util.MergeUtils;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import jakarta.validation.groups.Default;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDto {
+
+    /**
+     * Validation group for creating tasks, singly or in a batch; an update takes the task ID from the path.
+     */
+    public interface OnCreate extends Default {}
+
+    private String id;
+
+    @NotBlank(groups = OnCreate.class, message = "Task ID is required")
+    @Size(max = 255, message = "Task ID must be at most 255 characters")
+    private String taskId;
+
+    @Size(max = 255, message = "Type must be at most 255 characters")
+    private String type;
+
+    private TaskStatus status;
+
+    @Size(max = 255, message = "Component type must be at most 255 characters")
+    private String componentType;
+
+    @Size(max = 255, message = "Component name must be at most 255 characters")
+    private String componentName;
+
+    @Size(max = 255, message = "Component extension must be at most 255 characters")
+    private String componentExtension;
+
+    @Size(max = 255, message = "Component version must be at most 255 characters")
+    private String componentVersion;
+
+    @Size(max = 255, message = "Component last action must be at most 255 characters")
+    private String componentLastAction;
+
+    @Size(max = 255, message = "Component last action date time must be at most 255 characters")
+    private String componentLastActionDateTime;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static TaskDto fromEntity(Task task) {
+        return TaskDto.builder()
+                .id(task.getId())
+                .taskId(task.getTaskId())
+                .type(task.getType())
+                .status(task.getStatus())
+                .componentType(task.getComponentType())
+                .componentName(task.getComponentName())
+                .componentExtension(task.getComponentExtension())
+                .componentVersion(task.getComponentVersion())
+                .componentLastAction(task.getComponentLastAction())
+                .componentLastActionDateTime(task.getComponentLastActionDateTime())
+                .createdAt(task.getCreatedAt())
+                .updatedAt(task.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * Copies the updatable fields of the DTO onto the task, touching only fields whose value differs.
+     *
+     * @return {@code true} if any field changed
+     */
+    public static boolean updateEntity(TaskDto dto, Task task) {
+        boolean changed = MergeUtils.setIfChanged(task.getType(), dto.getType(), task::setType);
+        changed |= MergeUtils.setIfChanged(task.getStatus(), dto.getStatus(), task::setStatus);
+        changed |= MergeUtils.setIfChanged(task.getComponentType(), dto.getComponentType(), task::setComponentType);
+        changed |= MergeUtils.setIfChanged(task.getComponentName(), dto.getComponentName(), task::setComponentName);
+        changed |= MergeUtils.setIfChanged(task.getComponentExtension(), dto.getComponentExtension(),
+                task::setComponentExtension);
+        changed |= MergeUtils.setIfChanged(task.getComponentVersion(), dto.getComponentVersion(),
+                task::setComponentVersion);
+        changed |= MergeUtils.setIfChanged(task.getComponentLastAction(), dto.getComponentLastAction(),
+                task::setComponentLastAction);
+        changed |= MergeUtils.setIfChanged(task.getComponentLastActionDateTime(), dto.getComponentLastActionDateTime(),
+                task::setComponentLastActionDateTime);
+        return changed;
+    }
+
+    public static Task toEntity(TaskDto dto) {
+        return Task.builder()
+                .id(dto.getId())
+                .taskId(dto.getTaskId())
+                .type(dto.getType())
+                .status(dto.getStatus())
+                .componentType(dto.getComponentType())
+                .componentName(dto.getComponentName())
+                .componentExtension(dto.getComponentExtension())
+                .componentVersion(dto.getComponentVersion())
+                .componentLastAction(dto.getComponentLastAction())
+                .componentLastActionDateTime(dto.getComponentLastActionDateTime())
+                .build();
+    }
+}
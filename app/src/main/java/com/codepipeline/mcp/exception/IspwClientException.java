@@ -0,0 +1,17 @@
+package com.codepipeline.mcp.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Raised when a call to ISPW/CES fails, times out or is rejected because too many calls are pending.
+ */
+public class IspwClientException extends BaseException {
+
+    public IspwClientException(HttpStatus status, String message) {
+        super(status, "ISPW_ERROR", message);
+    }
+
+    public IspwClientException(HttpStatus status, String message, Throwable cause) {
+        super(status, "ISPW_ERROR", message, cause);
+    }
+}
@@ -3,14 +3,24 @@ package com.codepipeline.mcp.model;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JavaType;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "assignments")
+@Table(
+        name = "assignments",
+        indexes = {
+                @Index(name = "uq_assignments_assignment_id", columnList = "assignment_id", unique = true),
+                @Index(name = "idx_assignments_srid_application_status", columnList = "srid, application, status"),
+                @Index(name = "idx_assignments_srid_created_at", columnList = "srid, created_at, id")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -19,7 +29,9 @@ import java.util.Set;
 public class Assignment {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
+    @JavaType(UuidStringJavaType.class)
+    @JdbcTypeCode(SqlTypes.UUID)
     private String id;
     
     @Column(nullable = false, unique = true)
@@ -31,7 +43,10 @@ public class Assignment {
     private String application;
     private String stream;
     private String owner;
-    private String status;
+    
+    @Convert(converter = AssignmentStatus.JpaConverter.class)
+    private AssignmentStatus status;
+    
     private String releaseId;
     private String setid;
     private String level;
@@ -41,6 +56,7 @@ public class Assignment {
     private Set<Task> tasks = new HashSet<>();
     
     @CreationTimestamp
+    @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
     
     @UpdateTimestamp
@@ -0,0 +1,37 @@
+package com.codepipeline.mcp.model;
+
+import jakarta.persistence.Converter;
+import lombok.Getter;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Lifecycle status of an {@link Assignment}, stored as a {@code smallint} code.
+ */
+@Getter
+public enum AssignmentStatus implements CodedEnum {
+    OPEN(1),
+    IN_PROGRESS(2),
+    CLOSED(3);
+
+    /**
+     * Statuses of assignments still in flight. The PostgreSQL partial index on status (migration {@code V9})
+     * covers exactly these codes, so keep the two in step.
+     */
+    public static final Set<AssignmentStatus> ACTIVE = EnumSet.of(OPEN, IN_PROGRESS);
+
+    private final short code;
+
+    AssignmentStatus(int code) {
+        this.code = (short) code;
+    }
+
+    @Converter
+    public static class JpaConverter extends CodedEnumConverter<AssignmentStatus> {
+
+        public JpaConverter() {
+            super(AssignmentStatus.class);
+        }
+    }
+}
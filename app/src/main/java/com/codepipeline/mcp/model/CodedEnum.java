@@ -0,0 +1,13 @@
+package com.codepipeline.mcp.model;
+
+/**
+ * An enum persisted as a fixed {@code smallint} code instead of its name or ordinal, so constants can be
+ * renamed or reordered without rewriting stored rows.
+ */
+public interface CodedEnum {
+
+    /**
+     * The value stored in the database. Codes are permanent: never reuse or change one.
+     */
+    short getCode();
+}
@@ -0,0 +1,42 @@
+package com.codepipeline.mcp.model;
+
+import jakarta.persistence.AttributeConverter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Converts a {@link CodedEnum} to and from its {@code smallint} code. Subclass once per enum and annotate
+ * the subclass with {@code @Converter}.
+ */
+public abstract class CodedEnumConverter<E extends Enum<E> & CodedEnum> implements AttributeConverter<E, Short> {
+
+    private final Class<E> type;
+    private final Map<Short, E> byCode = new HashMap<>();
+
+    protected CodedEnumConverter(Class<E> type) {
+        this.type = type;
+        for (E constant : type.getEnumConstants()) {
+            if (byCode.put(constant.getCode(), constant) != null) {
+                throw new IllegalStateException("Duplicate code " + constant.getCode() + " in " + type.getName());
+            }
+        }
+    }
+
+    @Override
+    public Short convertToDatabaseColumn(E attribute) {
+        return attribute == null ? null : attribute.getCode();
+    }
+
+    @Override
+    public E convertToEntityAttribute(Short code) {
+        if (code == null) {
+            return null;
+        }
+        E constant = byCode.get(code);
+        if (constant == null) {
+            throw new IllegalArgumentException("Unknown " + type.getSimpleName() + " code: " + code);
+        }
+        return constant;
+    }
+}
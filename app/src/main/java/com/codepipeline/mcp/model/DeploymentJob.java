@@ -0,0 +1,81 @@
+package com.codepipeline.mcp.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * A queued or executed deployment of a release or release set.
+ *
+ * <p>Jobs are persisted when a deployment is requested and driven through their states by the
+ * deployment worker pool, so the request thread returns as soon as the job is stored.</p>
+ */
+@Entity
+@Table(name = "deployment_jobs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DeploymentJob {
+
+    public enum TargetType {
+        RELEASE,
+        RELEASE_SET
+    }
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        SUCCEEDED,
+        FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String id;
+
+    @Column(nullable = false)
+    private String srid;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TargetType targetType;
+
+    @Column(nullable = false)
+    private String targetId;
+
+    private String level;
+    private String environment;
+    private String description;
+    private String runtimeConfiguration;
+    private String requestedBy;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    /**
+     * {@code srid:targetType:targetId} while the job is queued or running and null once it finished.
+     * The column is unique, so two concurrent requests cannot both queue a job for the same target.
+     */
+    @Column(unique = true, length = 600)
+    private String activeTarget;
+
+    private int attempts;
+
+    @Column(length = 2000)
+    private String errorMessage;
+
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+}
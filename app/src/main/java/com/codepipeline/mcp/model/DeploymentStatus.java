@@ -0,0 +1,29 @@
+package com.codepipeline.mcp.model;
+
+import jakarta.persistence.Converter;
+import lombok.Getter;
+
+/**
+ * Deployment progress of a {@link ReleaseSet}, stored as a {@code smallint} code.
+ */
+@Getter
+public enum DeploymentStatus implements CodedEnum {
+    QUEUED(1),
+    IN_PROGRESS(2),
+    COMPLETE(3),
+    FAILED(4);
+
+    private final short code;
+
+    DeploymentStatus(int code) {
+        this.code = (short) code;
+    }
+
+    @Converter
+    public static class JpaConverter extends CodedEnumConverter<DeploymentStatus> {
+
+        public JpaConverter() {
+            super(DeploymentStatus.class);
+        }
+    }
+}
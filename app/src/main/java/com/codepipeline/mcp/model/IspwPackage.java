@@ -0,0 +1,54 @@
+package com.codepipeline.mcp.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * An ISPW package. Named {@code IspwPackage} to avoid clashing with {@link java.lang.Package}.
+ */
+@Entity
+@Table(
+        name = "packages",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uq_packages_srid_package_id", columnNames = {"srid", "package_id"}),
+        indexes = {
+                @Index(name = "idx_packages_srid_status_created_at", columnList = "srid, status, created_at, id"),
+                @Index(name = "idx_packages_srid_created_at", columnList = "srid, created_at, id")
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IspwPackage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String id;
+
+    @Column(nullable = false)
+    private String packageId;
+
+    @Column(nullable = false)
+    private String srid;
+
+    private String description;
+    private String owner;
+    private String application;
+    private String status;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    @Version
+    private Long version;
+}
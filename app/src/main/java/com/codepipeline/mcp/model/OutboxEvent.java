@@ -0,0 +1,97 @@
+package com.codepipeline.mcp.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * A change to an ISPW resource recorded in the same transaction as the change itself.
+ *
+ * <p>Rows are written by the services and removed by the change event relay once the event has been
+ * published to the STOMP topic of its SRID, so an event is published if and only if its change
+ * committed. Ids come from a sequence, fetched one at a time so that they follow insertion order across
+ * instances; rows drain in id order.</p>
+ */
+@Entity
+@Table(name = "outbox_events")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    /**
+     * Kind of resource that changed, with the topic its events are published to.
+     */
+    public enum Topic {
+        ASSIGNMENTS("assignments", "assignment"),
+        TASKS("tasks", "task"),
+        RELEASES("releases", "release"),
+        RELEASE_SETS("sets", "set");
+
+        private final String path;
+        private final String resource;
+
+        Topic(String path, String resource) {
+            this.path = path;
+            this.resource = resource;
+        }
+
+        /**
+         * Returns the STOMP destination for this topic, e.g. {@code /topic/ispw/SRID1/releases}.
+         */
+        public String destination(String srid) {
+            return "/topic/ispw/" + srid + "/" + path;
+        }
+
+        /**
+         * Returns the client-facing event type, e.g. {@code release:updated}.
+         */
+        public String eventType(ChangeType changeType) {
+            return resource + ":" + changeType.name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 1)
+    private Long id;
+
+    @Column(nullable = false)
+    private String srid;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Topic topic;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ChangeType changeType;
+
+    /**
+     * Business key of the changed resource (assignment, task, release or set id).
+     */
+    @Column(nullable = false)
+    private String resourceId;
+
+    /**
+     * Business key of the owning assignment or release, for tasks and release sets.
+     */
+    private String parentId;
+
+    @Column(length = 32)
+    private String status;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+}
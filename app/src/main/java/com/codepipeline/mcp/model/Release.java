@@ -3,14 +3,24 @@ package com.codepipeline.mcp.model;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JavaType;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "releases")
+@Table(
+        name = "releases",
+        indexes = {
+                @Index(name = "uq_releases_release_id", columnList = "release_id", unique = true),
+                @Index(name = "idx_releases_srid_application_status", columnList = "srid, application, status"),
+                @Index(name = "idx_releases_srid_created_at", columnList = "srid, created_at, id")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -19,7 +29,9 @@ import java.util.Set;
 public class Release {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
+    @JavaType(UuidStringJavaType.class)
+    @JdbcTypeCode(SqlTypes.UUID)
     private String id;
     
     @Column(nullable = false, unique = true)
@@ -31,7 +43,10 @@ public class Release {
     private String application;
     private String stream;
     private String owner;
-    private String status;
+    
+    @Convert(converter = ReleaseStatus.JpaConverter.class)
+    private ReleaseStatus status;
+    
     private String description;
     
     @OneToMany(mappedBy = "release", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -39,6 +54,7 @@ public class Release {
     private Set<ReleaseSet> sets = new HashSet<>();
     
     @CreationTimestamp
+    @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
     
     @UpdateTimestamp
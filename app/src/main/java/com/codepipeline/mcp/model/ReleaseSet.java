@@ -3,12 +3,21 @@ package com.codepipeline.mcp.model;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JavaType;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "release_sets")
+@Table(
+        name = "release_sets",
+        indexes = {
+                @Index(name = "uq_release_sets_set_id", columnList = "set_id", unique = true),
+                @Index(name = "idx_release_sets_release_id_set_id", columnList = "release_id, set_id")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,7 +26,9 @@ import java.time.LocalDateTime;
 public class ReleaseSet {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
+    @JavaType(UuidStringJavaType.class)
+    @JdbcTypeCode(SqlTypes.UUID)
     private String id;
     
     @Column(nullable = false, unique = true)
@@ -27,14 +38,19 @@ public class ReleaseSet {
     @JoinColumn(name = "release_id")
     private Release release;
     
-    private String status;
+    @Convert(converter = ReleaseStatus.JpaConverter.class)
+    private ReleaseStatus status;
+    
     private String owner;
     private String description;
     private String deployedBy;
     private LocalDateTime deployedAt;
-    private String deploymentStatus;
+    
+    @Convert(converter = DeploymentStatus.JpaConverter.class)
+    private DeploymentStatus deploymentStatus;
     
     @CreationTimestamp
+    @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
     
     @UpdateTimestamp
@@ -0,0 +1,39 @@
+package com.codepipeline.mcp.model;
+
+import jakarta.persistence.Converter;
+import lombok.Getter;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Lifecycle status of a {@link Release} or {@link ReleaseSet}, stored as a {@code smallint} code.
+ */
+@Getter
+public enum ReleaseStatus implements CodedEnum {
+    OPEN(1),
+    DEPLOY_IN_PROGRESS(2),
+    DEPLOYED(3),
+    DEPLOY_FAILED(4),
+    CLOSED(5);
+
+    /**
+     * Statuses of releases still in flight. The PostgreSQL partial index on status (migration {@code V9})
+     * covers exactly these codes, so keep the two in step.
+     */
+    public static final Set<ReleaseStatus> ACTIVE = EnumSet.of(OPEN, DEPLOY_IN_PROGRESS);
+
+    private final short code;
+
+    ReleaseStatus(int code) {
+        this.code = (short) code;
+    }
+
+    @Converter
+    public static class JpaConverter extends CodedEnumConverter<ReleaseStatus> {
+
+        public JpaConverter() {
+            super(ReleaseStatus.class);
+        }
+    }
+}
@@ -3,12 +3,21 @@ package com.codepipeline.mcp.model;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JavaType;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tasks")
+@Table(
+        name = "tasks",
+        indexes = {
+                @Index(name = "idx_tasks_assignment_id_task_id", columnList = "assignment_id, task_id"),
+                @Index(name = "idx_tasks_assignment_id_created_at", columnList = "assignment_id, created_at, id")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,7 +26,9 @@ import java.time.LocalDateTime;
 public class Task {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
+    @JavaType(UuidStringJavaType.class)
+    @JdbcTypeCode(SqlTypes.UUID)
     private String id;
     
     @Column(nullable = false)
@@ -28,7 +39,10 @@ public class Task {
     private Assignment assignment;
     
     private String type;
-    private String status;
+    
+    @Convert(converter = TaskStatus.JpaConverter.class)
+    private TaskStatus status;
+    
     private String componentType;
     private String componentName;
     private String componentExtension;
@@ -37,6 +51,7 @@ public class Task {
     private String componentLastActionDateTime;
     
     @CreationTimestamp
+    @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
     
     @UpdateTimestamp
@@ -0,0 +1,30 @@
+package com.codepipeline.mcp.model;
+
+import jakarta.persistence.Converter;
+import lombok.Getter;
+
+/**
+ * Lifecycle status of a {@link Task}, stored as a {@code smallint} code.
+ */
+@Getter
+public enum TaskStatus implements CodedEnum {
+    OPEN(1),
+    IN_PROGRESS(2),
+    PROMOTED(3),
+    FAILED(4),
+    CLOSED(5);
+
+    private final short code;
+
+    TaskStatus(int code) {
+        this.code = (short) code;
+    }
+
+    @Converter
+    public static class JpaConverter extends CodedEnumConverter<TaskStatus> {
+
+        public JpaConverter() {
+            super(TaskStatus.class);
+        }
+    }
+}
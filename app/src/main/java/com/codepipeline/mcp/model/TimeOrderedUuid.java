@@ -0,0 +1,20 @@
+package com.codepipeline.mcp.model;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates the annotated identifier as a time-ordered version 7 UUID.
+ *
+ * <p>Combine with {@code @JavaType(UuidStringJavaType.class)} and {@code @JdbcTypeCode(SqlTypes.UUID)} to
+ * keep the attribute a {@code String} while storing it in a native {@code uuid} column.</p>
+ */
+@IdGeneratorType(TimeOrderedUuidGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedUuid {
+}
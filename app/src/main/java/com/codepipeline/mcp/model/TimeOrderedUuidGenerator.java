@@ -0,0 +1,16 @@
+package com.codepipeline.mcp.model;
+
+import com.codepipeline.mcp.util.UuidUtils;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * Identifier generator behind {@link TimeOrderedUuid}.
+ */
+public class TimeOrderedUuidGenerator implements IdentifierGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return UuidUtils.timeOrdered().toString();
+    }
+}
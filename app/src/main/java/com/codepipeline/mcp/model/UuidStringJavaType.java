@@ -0,0 +1,30 @@
+package com.codepipeline.mcp.model;
+
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.StringJavaType;
+
+import java.util.UUID;
+
+/**
+ * Maps a {@code String} attribute holding a canonical UUID onto a native {@code uuid} column, so identifiers
+ * take 16 bytes in the table and every index instead of a 36-character {@code varchar}, while entities,
+ * DTOs and cursors keep passing them around as strings.
+ */
+public class UuidStringJavaType extends StringJavaType {
+
+    @Override
+    public <X> X unwrap(String value, Class<X> type, WrapperOptions options) {
+        if (value != null && UUID.class.isAssignableFrom(type)) {
+            return type.cast(UUID.fromString(value));
+        }
+        return super.unwrap(value, type, options);
+    }
+
+    @Override
+    public <X> String wrap(X value, WrapperOptions options) {
+        if (value instanceof UUID uuid) {
+            return uuid.toString();
+        }
+        return super.wrap(value, options);
+    }
+}
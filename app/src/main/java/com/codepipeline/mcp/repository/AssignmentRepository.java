@@ -0,0 +1,45 @@
+package com.codepipeline.mcp.repository;
+
+import com.codepipeline.mcp.model.Assignment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Repository
+public interface AssignmentRepository extends JpaRepository<Assignment, String>, JpaSpecificationExecutor<Assignment> {
+    
+    /**
+     * Number of rows the JDBC driver fetches per round trip when streaming assignments.
+     */
+    int STREAM_FETCH_SIZE = 500;
+    
+    Optional<Assignment> findByAssignmentIdAndSrid(String assignmentId, String srid);
+    
+    List<Assignment> findBySrid(String srid);
+    
+    /**
+     * Streams all assignments of an SRID through a server-side cursor. The caller must consume
+     * the stream inside a transaction and close it when done.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT a FROM Assignment a WHERE a.srid = :srid ORDER BY a.createdAt, a.id")
+    Stream<Assignment> streamBySrid(@Param("srid") String srid);
+    
+    boolean existsByAssignmentIdAndSrid(String assignmentId, String srid);
+    
+    @Query("SELECT a.id FROM Assignment a WHERE a.assignmentId = :assignmentId AND a.srid = :srid")
+    Optional<String> findIdByAssignmentIdAndSrid(@Param("assignmentId") String assignmentId, @Param("srid") String srid);
+}
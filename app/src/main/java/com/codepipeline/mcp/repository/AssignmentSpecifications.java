@@ -0,0 +1,26 @@
+package com.codepipeline.mcp.repository;
+
+import com.codepipeline.mcp.dto.AssignmentFilter;
+import com.codepipeline.mcp.model.Assignment;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Translates an {@link AssignmentFilter} into the predicates of an assignment list query.
+ */
+public final class AssignmentSpecifications {
+
+    private AssignmentSpecifications() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static Specification<Assignment> matching(String srid, AssignmentFilter filter) {
+        return Specification.allOf(
+                (root, query, cb) -> cb.equal(root.get("srid"), srid),
+                FilterSpecifications.equalTo("application", filter.getApplication()),
+                FilterSpecifications.equalTo("status", filter.getStatus()),
+                FilterSpecifications.equalTo("owner", filter.getOwner()),
+                FilterSpecifications.equalTo("stream", filter.getStream()),
+                FilterSpecifications.equalTo("level", filter.getLevel()),
+                FilterSpecifications.between("createdAt", filter.getCreatedFrom(), filter.getCreatedTo()));
+    }
+}
@@ -0,0 +1,73 @@
+package com.codepipeline.mcp.repository;
+
+import com.codepipeline.mcp.model.DeploymentJob;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DeploymentJobRepository extends JpaRepository<DeploymentJob, String> {
+
+    Optional<DeploymentJob> findByIdAndSrid(String id, String srid);
+
+    Optional<DeploymentJob> findFirstBySridAndTargetTypeAndTargetIdAndStatusIn(
+            String srid, DeploymentJob.TargetType targetType, String targetId,
+            Collection<DeploymentJob.Status> statuses);
+
+    @Query("SELECT j.id FROM DeploymentJob j WHERE j.status = :status AND j.createdAt < :createdBefore " +
+           "ORDER BY j.createdAt")
+    List<String> findIdsByStatusCreatedBefore(
+            @Param("status") DeploymentJob.Status status,
+            @Param("createdBefore") LocalDateTime createdBefore,
+            Limit limit
+    );
+
+    @Query("SELECT j.id FROM DeploymentJob j WHERE j.status = :status AND j.updatedAt < :updatedBefore " +
+           "ORDER BY j.updatedAt")
+    List<String> findIdsByStatusUpdatedBefore(
+            @Param("status") DeploymentJob.Status status,
+            @Param("updatedBefore") LocalDateTime updatedBefore,
+            Limit limit
+    );
+
+    /**
+     * Moves a job from one status to another only if it is still in the expected status, so that
+     * exactly one worker can claim a queued job.
+     *
+     * @return the number of rows changed, 0 if another worker got there first
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE DeploymentJob j SET j.status = :to, j.startedAt = :startedAt, j.attempts = j.attempts + 1, " +
+           "j.updatedAt = :startedAt WHERE j.id = :id AND j.status = :from")
+    int claim(
+            @Param("id") String id,
+            @Param("from") DeploymentJob.Status from,
+            @Param("to") DeploymentJob.Status to,
+            @Param("startedAt") LocalDateTime startedAt
+    );
+
+    /**
+     * Moves a running job to a terminal status and releases its target, only if it is still running, so
+     * that a job failed by the sweep is not completed later by its worker or the other way round.
+     *
+     * @return the number of rows changed, 0 if the job already finished
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE DeploymentJob j SET j.status = :to, j.completedAt = :completedAt, j.errorMessage = :errorMessage, " +
+           "j.activeTarget = NULL, j.updatedAt = :completedAt WHERE j.id = :id AND j.status = :from")
+    int finish(
+            @Param("id") String id,
+            @Param("from") DeploymentJob.Status from,
+            @Param("to") DeploymentJob.Status to,
+            @Param("completedAt") LocalDateTime completedAt,
+            @Param("errorMessage") String errorMessage
+    );
+}
@@ -0,0 +1,67 @@
+package com.codepipeline.mcp.repository;
+
+import com.codepipeline.mcp.util.CursorUtils;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Building blocks for list filters. Each factory returns {@code null} when its value is absent, and
+ * {@link Specification#allOf} skips {@code null} parts, so a query only carries the predicates the caller
+ * actually set. Unlike {@code (:x IS NULL OR col = :x)} this leaves the database a plan that can use the
+ * index matching the filters, and the same plan is reused for the same filter combination.
+ */
+public final class FilterSpecifications {
+
+    /**
+     * Keyset order of every list page; see {@link CursorUtils}.
+     */
+    public static final Sort KEYSET_ORDER = Sort.by("createdAt", "id");
+
+    /**
+     * Attributes a page must select to build its next cursor.
+     */
+    public static final List<String> KEYSET_ATTRIBUTES = List.of("id", "createdAt");
+
+    private FilterSpecifications() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * {@code attribute = value}, or no restriction if the value is {@code null} or a blank string.
+     */
+    public static <T> Specification<T> equalTo(String attribute, Object value) {
+        if (value == null || (value instanceof String text && text.isBlank())) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get(attribute), value);
+    }
+
+    /**
+     * {@code from <= attribute < to}, leaving out whichever bound is {@code null}.
+     */
+    public static <T> Specification<T> between(String attribute, LocalDateTime from, LocalDateTime to) {
+        Specification<T> lower = from == null
+                ? null
+                : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get(attribute), from);
+        Specification<T> upper = to == null
+                ? null
+                : (root, query, cb) -> cb.lessThan(root.get(attribute), to);
+        return Specification.allOf(lower, upper);
+    }
+
+    /**
+     * Rows after the cursor in {@link #KEYSET_ORDER}, or no restriction on the first page.
+     */
+    public static <T> Specification<T> after(CursorUtils.Cursor position) {
+        if (position == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.or(
+                cb.greaterThan(root.get("createdAt"), position.createdAt()),
+                cb.and(cb.equal(root.get("createdAt"), position.createdAt()),
+                        cb.greaterThan(root.get("id"), position.id())));
+    }
+}
@@ -0,0 +1,47 @@
+package com.codepipeline.mcp.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Runs list queries built from a {@link Specification} but selects only the requested attributes into
+ * {@link Tuple}s, so list pages go from JDBC rows to DTOs without hydrating managed entities.
+ * Each tuple element is aliased with its attribute name.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ListProjectionRepository {
+
+    private final EntityManager entityManager;
+
+    public <T> List<Tuple> findAll(Class<T> type, Specification<T> specification, List<String> attributes,
+                                   Sort sort, Limit limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(type);
+        query.multiselect(attributes.stream()
+                .<Selection<?>>map(attribute -> root.get(attribute).alias(attribute))
+                .toList());
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit.max())
+                .getResultList();
+    }
+}
@@ -0,0 +1,65 @@
+package com.codepipeline.mcp.repository;
+
+import com.codepipeline.mcp.model.Message;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface MessageRepository extends JpaRepository<Message, String>, JpaSpecificationExecutor<Message> {
+    List<Message> findBySender(String sender);
+    
+    @Query("SELECT m FROM Message m WHERE m.sender = :sender")
+    Page<Message> findBySender(@Param("sender") String sender, Pageable pageable);
+    
+    /**
+     * Escape character used in content search patterns.
+     */
+    char LIKE_ESCAPE = '!';
+    
+    default List<Message> findByContentContainingIgnoreCase(String searchTerm) {
+        return findByContentPattern(containsPattern(searchTerm));
+    }
+    
+    default Page<Message> findByContentContainingIgnoreCase(String searchTerm, Pageable pageable) {
+        return findByContentPattern(containsPattern(searchTerm), pageable);
+    }
+    
+    /*
+     * ILIKE is rendered natively on PostgreSQL, where it is served by the pg_trgm GIN index on
+     * messages.content (db/vendor/postgresql); on H2 it falls back to a case-insensitive scan.
+     */
+    @Query("SELECT m FROM Message m WHERE m.content ILIKE :pattern ESCAPE '!'")
+    List<Message> findByContentPattern(@Param("pattern") String pattern);
+    
+    @Query("SELECT m FROM Message m WHERE m.content ILIKE :pattern ESCAPE '!'")
+    Page<Message> findByContentPattern(@Param("pattern") String pattern, Pageable pageable);
+    
+    /**
+     * Builds an ILIKE pattern matching content that contains the term literally, escaping the
+     * {@code %} and {@code _} wildcards so they are not interpreted.
+     */
+    static String containsPattern(String searchTerm) {
+        String term = searchTerm == null ? "" : searchTerm;
+        StringBuilder pattern = new StringBuilder(term.length() + 2).append('%');
+        for (char c : term.toCharArray()) {
+            if (c == LIKE_ESCAPE || c == '%' || c == '_') {
+                pattern.append(LIKE_ESCAPE);
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+    
+    long countBySender(String sender);
+
+    List<Message> findBySenderOrderByContentAsc(String sender);
+
+    List<Message> findBySenderOrderByContentDesc(String sender);
+}
@@ -0,0 +1,22 @@
+package com.codepipeline.mcp.repository;
+
+import com.codepipeline.mcp.model.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Locks the oldest pending events. A relay on another instance waits for the rows instead of
+     * skipping them, so batches are published one after the other and events for a resource are never
+     * sent out of order.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<OutboxEvent> findByOrderByIdAsc(Limit limit);
+}
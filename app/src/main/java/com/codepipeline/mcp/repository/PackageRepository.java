@@ -0,0 +1,79 @@
+package com.codepipeline.mcp.repository;
+
+import com.codepipeline.mcp.dto.PackageDto;
+import com.codepipeline.mcp.model.IspwPackage;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Package reads are projected straight into {@link PackageDto} so that polling never hydrates or
+ * dirty-checks entities. Status-filtered pages use separate queries so the status predicate is always
+ * present and matches the {@code (srid, status, created_at, id)} index; the unfiltered ones use
+ * {@code (srid, created_at, id)}. The optional application filter is not indexed and keeps its
+ * {@code :application IS NULL OR} form: it only discards rows read in index order, so it does not
+ * change which index serves the page.
+ */
+@Repository
+public interface PackageRepository extends JpaRepository<IspwPackage, String> {
+
+    String PROJECTION = "SELECT new com.codepipeline.mcp.dto.PackageDto(p.id, p.packageId, p.srid, p.description, " +
+            "p.owner, p.application, p.status, p.createdAt, p.updatedAt, p.version) FROM IspwPackage p ";
+
+    Optional<IspwPackage> findByPackageIdAndSrid(String packageId, String srid);
+
+    boolean existsByPackageIdAndSrid(String packageId, String srid);
+
+    @Query(PROJECTION + "WHERE p.srid = :srid AND p.packageId = :packageId")
+    Optional<PackageDto> findDtoByPackageIdAndSrid(@Param("packageId") String packageId, @Param("srid") String srid);
+
+    @Query(PROJECTION + "WHERE p.srid = :srid AND " +
+           "(:application IS NULL OR p.application = :application) " +
+           "ORDER BY p.createdAt, p.id")
+    List<PackageDto> findFirstPageBySrid(
+            @Param("srid") String srid,
+            @Param("application") String application,
+            Limit limit
+    );
+
+    @Query(PROJECTION + "WHERE p.srid = :srid AND " +
+           "(:application IS NULL OR p.application = :application) AND " +
+           "(p.createdAt > :createdAt OR (p.createdAt = :createdAt AND p.id > :id)) " +
+           "ORDER BY p.createdAt, p.id")
+    List<PackageDto> findPageBySridAfter(
+            @Param("srid") String srid,
+            @Param("application") String application,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") String id,
+            Limit limit
+    );
+
+    @Query(PROJECTION + "WHERE p.srid = :srid AND p.status = :status AND " +
+           "(:application IS NULL OR p.application = :application) " +
+           "ORDER BY p.createdAt, p.id")
+    List<PackageDto> findFirstPageBySridAndStatus(
+            @Param("srid") String srid,
+            @Param("status") String status,
+            @Param("application") String application,
+            Limit limit
+    );
+
+    @Query(PROJECTION + "WHERE p.srid = :srid AND p.status = :status AND " +
+           "(:application IS NULL OR p.application = :application) AND " +
+           "(p.createdAt > :createdAt OR (p.createdAt = :createdAt AND p.id > :id)) " +
+           "ORDER BY p.createdAt, p.id")
+    List<PackageDto> findPageBySridAndStatusAfter(
+            @Param("srid") String srid,
+            @Param("status") String status,
+            @Param("application") String application,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") String id,
+            Limit limit
+    );
+}
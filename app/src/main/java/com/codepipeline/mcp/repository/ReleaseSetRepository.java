@@ -0,0 +1,49 @@
+package com.codepipeline.mcp.repository;
+
+import com.codepipeline.mcp.model.ReleaseSet;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ReleaseSetRepository extends JpaRepository<ReleaseSet, String> {
+    
+    Optional<ReleaseSet> findBySetIdAndReleaseId(String setId, String releaseId);
+    
+    List<ReleaseSet> findByReleaseId(String releaseId);
+    
+    List<ReleaseSet> findByReleaseIdIn(Collection<String> releaseIds);
+    
+    boolean existsBySetIdAndReleaseId(String setId, String releaseId);
+    
+    List<ReleaseSet> findByReleaseSrid(String srid);
+    
+    Optional<ReleaseSet> findBySetIdAndReleaseSrid(String setId, String srid);
+    
+    /**
+     * Loads a set together with its release, for callers that need the release's business key.
+     */
+    @Query("SELECT rs FROM ReleaseSet rs JOIN FETCH rs.release r WHERE rs.setId = :setId AND r.srid = :srid")
+    Optional<ReleaseSet> findWithReleaseBySetIdAndSrid(@Param("setId") String setId, @Param("srid") String srid);
+    
+    @Query("SELECT rs FROM ReleaseSet rs WHERE rs.release.srid = :srid " +
+           "ORDER BY rs.createdAt, rs.id")
+    List<ReleaseSet> findFirstPageByReleaseSrid(@Param("srid") String srid, Limit limit);
+    
+    @Query("SELECT rs FROM ReleaseSet rs WHERE rs.release.srid = :srid AND " +
+           "(rs.createdAt > :createdAt OR (rs.createdAt = :createdAt AND rs.id > :id)) " +
+           "ORDER BY rs.createdAt, rs.id")
+    List<ReleaseSet> findPageByReleaseSridAfter(
+            @Param("srid") String srid,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") String id,
+            Limit limit
+    );
+}
@@ -0,0 +1,25 @@
+package com.codepipeline.mcp.repository;
+
+import com.codepipeline.mcp.dto.ReleaseFilter;
+import com.codepipeline.mcp.model.Release;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Translates a {@link ReleaseFilter} into the predicates of a release list query.
+ */
+public final class ReleaseSpecifications {
+
+    private ReleaseSpecifications() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static Specification<Release> matching(String srid, ReleaseFilter filter) {
+        return Specification.allOf(
+                (root, query, cb) -> cb.equal(root.get("srid"), srid),
+                FilterSpecifications.equalTo("application", filter.getApplication()),
+                FilterSpecifications.equalTo("status", filter.getStatus()),
+                FilterSpecifications.equalTo("owner", filter.getOwner()),
+                FilterSpecifications.equalTo("stream", filter.getStream()),
+                FilterSpecifications.between("createdAt", filter.getCreatedFrom(), filter.getCreatedTo()));
+    }
+}
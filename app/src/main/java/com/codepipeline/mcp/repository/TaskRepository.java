@@ -0,0 +1,75 @@
+package com.codepipeline.mcp.repository;
+
+import com.codepipeline.mcp.model.Assignment;
+import com.codepipeline.mcp.model.Task;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TaskRepository extends JpaRepository<Task, String> {
+    
+    Optional<Task> findByTaskIdAndAssignmentId(String taskId, String assignmentId);
+    
+    List<Task> findByAssignmentId(String assignmentId);
+    
+    List<Task> findByAssignmentIn(Collection<Assignment> assignments);
+    
+    List<Task> findByAssignmentIdIn(Collection<String> assignmentIds);
+    
+    List<Task> findByAssignmentAndTaskIdIn(Assignment assignment, Collection<String> taskIds);
+    
+    boolean existsByTaskIdAndAssignmentId(String taskId, String assignmentId);
+    
+    /**
+     * Looks up an assignment and one of its tasks in a single statement. An empty result means the
+     * assignment does not exist in the SRID; a result without a task means the assignment exists but
+     * has no task with that id.
+     */
+    @Query("SELECT a.id AS assignmentKey, t AS task FROM Assignment a " +
+           "LEFT JOIN a.tasks t ON t.taskId = :taskId " +
+           "WHERE a.assignmentId = :assignmentId AND a.srid = :srid")
+    Optional<AssignmentTask> findAssignmentTask(
+            @Param("srid") String srid,
+            @Param("assignmentId") String assignmentId,
+            @Param("taskId") String taskId
+    );
+    
+    @Query("SELECT t FROM Task t WHERE t.assignment.srid = :srid AND " +
+           "t.assignment.assignmentId = :assignmentId " +
+           "ORDER BY t.createdAt, t.id")
+    List<Task> findFirstPageByAssignment(
+            @Param("srid") String srid,
+            @Param("assignmentId") String assignmentId,
+            Limit limit
+    );
+    
+    @Query("SELECT t FROM Task t WHERE t.assignment.srid = :srid AND " +
+           "t.assignment.assignmentId = :assignmentId AND " +
+           "(t.createdAt > :createdAt OR (t.createdAt = :createdAt AND t.id > :id)) " +
+           "ORDER BY t.createdAt, t.id")
+    List<Task> findPageByAssignmentAfter(
+            @Param("srid") String srid,
+            @Param("assignmentId") String assignmentId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") String id,
+            Limit limit
+    );
+    
+    /**
+     * Result of {@link #findAssignmentTask}: the assignment's primary key and the task, if found.
+     */
+    interface AssignmentTask {
+        
+        String getAssignmentKey();
+        
+        Task getTask();
+    }
+}
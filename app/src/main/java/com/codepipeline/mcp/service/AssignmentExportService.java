@@ -0,0 +1,101 @@
+package com.codepipeline.mcp.service;
+
+import com.codepipeline.mcp.dto.AssignmentDto;
+import com.codepipeline.mcp.model.Assignment;
+import com.codepipeline.mcp.model.Task;
+import com.codepipeline.mcp.repository.AssignmentRepository;
+import com.codepipeline.mcp.repository.TaskRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Streams assignments with their tasks as newline-delimited JSON.
+ *
+ * <p>Assignments are read through a server-side cursor and processed in batches: tasks for a
+ * batch are loaded with one IN query, the batch is written and flushed, and the persistence
+ * context is cleared so memory use stays flat however many rows the SRID holds.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AssignmentExportService {
+
+    private static final int BATCH_SIZE = AssignmentRepository.STREAM_FETCH_SIZE;
+    private static final byte NEWLINE = '\n';
+
+    private final AssignmentRepository assignmentRepository;
+    private final TaskRepository taskRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Writes every assignment of the given SRID to the output stream, one JSON document per line.
+     *
+     * @param srid the SRID to export
+     * @param outputStream the target stream; it is flushed but not closed
+     * @return the number of assignments written
+     * @throws IOException if writing to the stream fails
+     */
+    @Transactional(readOnly = true)
+    public long exportAssignments(String srid, OutputStream outputStream) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(AssignmentDto.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        BufferedOutputStream out = new BufferedOutputStream(outputStream);
+        long count = 0;
+
+        try (Stream<Assignment> assignments = assignmentRepository.streamBySrid(srid)) {
+            Iterator<Assignment> iterator = assignments.iterator();
+            List<Assignment> batch = new ArrayList<>(BATCH_SIZE);
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == BATCH_SIZE) {
+                    count += writeBatch(batch, writer, out);
+                }
+            }
+            if (!batch.isEmpty()) {
+                count += writeBatch(batch, writer, out);
+            }
+        }
+
+        out.flush();
+        log.debug("Exported {} assignments for SRID {}", count, srid);
+        return count;
+    }
+
+    private int writeBatch(List<Assignment> batch, ObjectWriter writer, OutputStream out) throws IOException {
+        Map<String, List<Task>> tasksByAssignment = taskRepository.findByAssignmentIn(batch).stream()
+                .collect(Collectors.groupingBy(task -> task.getAssignment().getId()));
+
+        for (Assignment assignment : batch) {
+            AssignmentDto dto = AssignmentDto.fromEntity(
+                    assignment, tasksByAssignment.getOrDefault(assignment.getId(), List.of()));
+            writer.writeValue(out, dto);
+            out.write(NEWLINE);
+        }
+        out.flush();
+
+        int written = batch.size();
+        batch.clear();
+        // Detach everything loaded for this batch so the persistence context does not grow with the export
+        entityManager.clear();
+        return written;
+    }
+}
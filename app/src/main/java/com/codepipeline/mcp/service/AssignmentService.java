@@ -0,0 +1,162 @@
+package com.codepipeline.mcp.service;
+
+import com.codepipeline.mcp.dto.AssignmentDto;
+import com.codepipeline.mcp.dto.AssignmentFilter;
+import com.codepipeline.mcp.dto.CursorPage;
+import com.codepipeline.mcp.dto.TaskDto;
+import com.codepipeline.mcp.exception.ResourceNotFoundException;
+import com.codepipeline.mcp.model.Assignment;
+import com.codepipeline.mcp.model.OutboxEvent.ChangeType;
+import com.codepipeline.mcp.model.Task;
+import com.codepipeline.mcp.repository.AssignmentRepository;
+import com.codepipeline.mcp.repository.AssignmentSpecifications;
+import com.codepipeline.mcp.repository.FilterSpecifications;
+import com.codepipeline.mcp.repository.ListProjectionRepository;
+import com.codepipeline.mcp.repository.TaskRepository;
+import com.codepipeline.mcp.util.CursorUtils;
+import com.codepipeline.mcp.util.FieldSelection;
+import com.codepipeline.mcp.util.MergeUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class AssignmentService {
+
+    /** {@code include} value that embeds each assignment's tasks in a list page. */
+    public static final String INCLUDE_TASKS = "tasks";
+
+    private static final List<String> INCLUDABLE = List.of(INCLUDE_TASKS);
+
+    private final AssignmentRepository assignmentRepository;
+    private final TaskRepository taskRepository;
+    private final ParentLookupService parentLookupService;
+    private final ListProjectionRepository listProjectionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(readOnly = true)
+    public CursorPage<AssignmentDto> getAssignments(String srid, AssignmentFilter filter, String fields,
+                                                    String include, String cursor, int limit) {
+        int pageSize = CursorUtils.normalizeLimit(limit);
+        CursorUtils.Cursor position = CursorUtils.decode(cursor);
+        List<String> attributes = FieldSelection.resolve(
+                fields, AssignmentDto.LIST_FIELDS.keySet(), FilterSpecifications.KEYSET_ATTRIBUTES);
+        boolean includeTasks = FieldSelection.includes(include, INCLUDABLE).contains(INCLUDE_TASKS);
+        
+        List<AssignmentDto> rows = listProjectionRepository.findAll(
+                        Assignment.class,
+                        AssignmentSpecifications.matching(srid, filter).and(FilterSpecifications.after(position)),
+                        attributes, FilterSpecifications.KEYSET_ORDER, CursorUtils.window(pageSize)).stream()
+                .map(AssignmentDto::fromTuple)
+                .toList();
+        CursorPage<AssignmentDto> page =
+                CursorUtils.toPage(rows, pageSize, AssignmentDto::getCreatedAt, AssignmentDto::getId);
+        if (!includeTasks || page.getItems().isEmpty()) {
+            return page;
+        }
+        
+        // Load the tasks of every assignment on the page with a single IN query
+        Map<String, List<Task>> tasksByAssignment =
+                taskRepository.findByAssignmentIdIn(page.getItems().stream().map(AssignmentDto::getId).toList())
+                        .stream()
+                        .collect(Collectors.groupingBy(task -> task.getAssignment().getId()));
+        page.getItems().forEach(assignment -> assignment.setTasks(
+                tasksByAssignment.getOrDefault(assignment.getId(), List.of()).stream()
+                        .map(TaskDto::fromEntity)
+                        .toList()));
+        return page;
+    }
+
+    @Transactional(readOnly = true)
+    public AssignmentDto getAssignment(String srid, String assignmentId) {
+        Assignment assignment = assignmentRepository.findByAssignmentIdAndSrid(assignmentId, srid)
+                .orElseThrow(() -> new ResourceNotFoundException("Assignment not found with id: " + assignmentId));
+        
+        return AssignmentDto.fromEntity(assignment);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TaskDto> getAssignmentTasks(String srid, String assignmentId) {
+        String assignmentKey = parentLookupService.findAssignmentKey(srid, assignmentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Assignment not found with id: " + assignmentId));
+        
+        return taskRepository.findByAssignmentId(assignmentKey).stream()
+                .map(TaskDto::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional
+    public AssignmentDto createAssignment(String srid, AssignmentDto assignmentDto) {
+        if (assignmentRepository.existsByAssignmentIdAndSrid(assignmentDto.getAssignmentId(), srid)) {
+            throw new IllegalArgumentException("Assignment with id " + assignmentDto.getAssignmentId() + " already exists");
+        }
+        
+        Assignment assignment = AssignmentDto.toEntity(assignmentDto);
+        assignment.setSrid(srid);
+        // Client-supplied ids would turn the cascaded persist into one merge (SELECT) per row
+        assignment.setId(null);
+        assignment.getTasks().forEach(task -> task.setId(null));
+        
+        Assignment savedAssignment = assignmentRepository.save(assignment);
+        eventPublisher.publishEvent(IspwChangeEvent.of(ChangeType.CREATED, savedAssignment));
+        return AssignmentDto.fromEntity(savedAssignment);
+    }
+
+    @Transactional
+    public AssignmentDto updateAssignment(String srid, String assignmentId, AssignmentDto assignmentDto) {
+        Assignment existingAssignment = assignmentRepository.findByAssignmentIdAndSrid(assignmentId, srid)
+                .orElseThrow(() -> new ResourceNotFoundException("Assignment not found with id: " + assignmentId));
+        
+        // Update fields from DTO
+        existingAssignment.setApplication(assignmentDto.getApplication());
+        existingAssignment.setStream(assignmentDto.getStream());
+        existingAssignment.setOwner(assignmentDto.getOwner());
+        existingAssignment.setStatus(assignmentDto.getStatus());
+        existingAssignment.setReleaseId(assignmentDto.getReleaseId());
+        existingAssignment.setSetid(assignmentDto.getSetid());
+        existingAssignment.setLevel(assignmentDto.getLevel());
+        
+        // Reconcile tasks by taskId so that only new, changed and removed tasks are written
+        if (assignmentDto.getTasks() != null) {
+            MergeUtils.mergeByKey(
+                    new ArrayList<>(existingAssignment.getTasks()),
+                    assignmentDto.getTasks(),
+                    Task::getTaskId,
+                    TaskDto::getTaskId,
+                    TaskDto::updateEntity,
+                    AssignmentService::newTask,
+                    existingAssignment::addTask,
+                    existingAssignment::removeTask
+            );
+        }
+        
+        Assignment updatedAssignment = assignmentRepository.save(existingAssignment);
+        eventPublisher.publishEvent(IspwChangeEvent.of(ChangeType.UPDATED, updatedAssignment));
+        return AssignmentDto.fromEntity(updatedAssignment);
+    }
+
+    private static Task newTask(TaskDto taskDto) {
+        Task task = TaskDto.toEntity(taskDto);
+        task.setId(null);
+        return task;
+    }
+
+    @Transactional
+    public void deleteAssignment(String srid, String assignmentId) {
+        Assignment assignment = assignmentRepository.findByAssignmentIdAndSrid(assignmentId, srid)
+                .orElseThrow(() -> new ResourceNotFoundException("Assignment not found with id: " + assignmentId));
+        
+        assignmentRepository.delete(assignment);
+        // The delete cascades to the tasks, which were loaded to remove them
+        assignment.getTasks().forEach(task ->
+                eventPublisher.publishEvent(IspwChangeEvent.of(ChangeType.DELETED, srid, assignmentId, task)));
+        eventPublisher.publishEvent(IspwChangeEvent.of(ChangeType.DELETED, assignment));
+    }
+}
@@ -0,0 +1,38 @@
+package com.codepipeline.mcp.service;
+
+import com.codepipeline.mcp.model.OutboxEvent;
+import com.codepipeline.mcp.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Records each {@link IspwChangeEvent} in the outbox as part of the transaction that published it, so the
+ * event exists exactly when the change it describes was committed.
+ *
+ * <p>Pending changes are flushed before the event's id is drawn. The flush takes the row locks of the
+ * changed resource, so of two transactions changing the same resource the one that commits later also
+ * draws the higher id, and "latest event per resource" in the relay is the latest committed change.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ChangeEventOutbox {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(IspwChangeEvent event) {
+        outboxEventRepository.flush();
+        outboxEventRepository.save(OutboxEvent.builder()
+                .srid(event.srid())
+                .topic(event.topic())
+                .changeType(event.changeType())
+                .resourceId(event.resourceId())
+                .parentId(event.parentId())
+                .status(event.status())
+                .build());
+    }
+}
@@ -0,0 +1,131 @@
+package com.codepipeline.mcp.service;
+
+import com.codepipeline.mcp.config.OutboxProperties;
+import com.codepipeline.mcp.dto.ChangeEventDto;
+import com.codepipeline.mcp.model.OutboxEvent;
+import com.codepipeline.mcp.repository.OutboxEventRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Publishes outbox change events to the per-SRID STOMP topics.
+ *
+ * <p>A commit that recorded events schedules a drain after {@code mcp.outbox.coalesce-window}; commits
+ * arriving while a drain is pending join it, so a burst of changes costs one drain. Within a drained batch
+ * only the latest event per resource is sent. Rows are deleted in the transaction that published them; if
+ * publishing fails they stay in the outbox for the periodic sweep, so delivery is at least once. All drains
+ * of an instance run on one thread, and a drain waits for rows locked by another instance's drain, so
+ * events leave in id order across instances.</p>
+ */
+@Slf4j
+@Component
+public class ChangeEventRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final OutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledExecutorService executor;
+    private final AtomicBoolean drainPending = new AtomicBoolean();
+
+    public ChangeEventRelay(OutboxEventRepository outboxEventRepository,
+                            SimpMessageSendingOperations messagingTemplate,
+                            OutboxProperties properties,
+                            PlatformTransactionManager transactionManager) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.messagingTemplate = messagingTemplate;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("outbox-relay-"));
+    }
+
+    @TransactionalEventListener
+    public void onChangeCommitted(IspwChangeEvent event) {
+        requestDrain();
+    }
+
+    @Scheduled(fixedDelayString = "${mcp.outbox.sweep-interval:PT30S}")
+    public void sweep() {
+        requestDrain();
+    }
+
+    /**
+     * Schedules a drain after the coalesce window unless one is already pending.
+     */
+    public void requestDrain() {
+        if (drainPending.compareAndSet(false, true)) {
+            executor.schedule(() -> {
+                drainPending.set(false);
+                try {
+                    drain();
+                } catch (RuntimeException e) {
+                    log.warn("Publishing outbox events failed, retrying on the next sweep: {}", e.getMessage());
+                }
+            }, properties.getCoalesceWindow().toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Publishes and deletes pending events batch by batch until the outbox is empty.
+     *
+     * @return the number of events sent after coalescing
+     */
+    public int drain() {
+        int sent = 0;
+        Batch batch;
+        do {
+            batch = transactionTemplate.execute(status -> publishBatch());
+            sent += batch.sent();
+        } while (batch.rows() == properties.getBatchSize());
+        return sent;
+    }
+
+    private Batch publishBatch() {
+        List<OutboxEvent> events = outboxEventRepository.findByOrderByIdAsc(Limit.of(properties.getBatchSize()));
+        if (events.isEmpty()) {
+            return new Batch(0, 0);
+        }
+        
+        // Later events for a resource replace earlier ones and move to the position of the latest change
+        Map<String, OutboxEvent> latest = new LinkedHashMap<>();
+        for (OutboxEvent event : events) {
+            String key = event.getTopic() + "|" + event.getSrid() + "|" + event.getParentId() + "|"
+                    + event.getResourceId();
+            latest.remove(key);
+            latest.put(key, event);
+        }
+        latest.values().forEach(event -> messagingTemplate.convertAndSend(
+                event.getTopic().destination(event.getSrid()), ChangeEventDto.fromEntity(event)));
+        
+        outboxEventRepository.deleteAllInBatch(events);
+        log.debug("Published {} change events from {} outbox rows", latest.size(), events.size());
+        return new Batch(events.size(), latest.size());
+    }
+
+    /**
+     * Number of outbox rows drained in one transaction and of events sent for them.
+     */
+    private record Batch(int rows, int sent) {
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
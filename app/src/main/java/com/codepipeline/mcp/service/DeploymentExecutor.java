@@ -0,0 +1,12 @@
+package com.codepipeline.mcp.service;
+
+import com.codepipeline.mcp.model.DeploymentJob;
+
+/**
+ * Performs the actual deployment of a claimed job. Called on a deployment worker thread outside
+ * of any transaction; returning normally marks the job as succeeded, throwing marks it as failed.
+ */
+public interface DeploymentExecutor {
+
+    void deploy(DeploymentJob job) throws Exception;
+}
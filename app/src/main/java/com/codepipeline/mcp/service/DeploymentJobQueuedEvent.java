@@ -0,0 +1,7 @@
+package com.codepipeline.mcp.service;
+
+/**
+ * Published when a deployment job is stored; dispatched to the worker pool once the transaction commits.
+ */
+public record DeploymentJobQueuedEvent(String jobId) {
+}
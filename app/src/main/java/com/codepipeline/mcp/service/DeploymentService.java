@@ -0,0 +1,240 @@
+package com.codepipeline.mcp.service;
+
+import com.codepipeline.mcp.dto.DeployRequest;
+import com.codepipeline.mcp.dto.DeploymentJobDto;
+import com.codepipeline.mcp.exception.BusinessException;
+import com.codepipeline.mcp.exception.ResourceNotFoundException;
+import com.codepipeline.mcp.model.DeploymentJob;
+import com.codepipeline.mcp.model.DeploymentStatus;
+import com.codepipeline.mcp.model.OutboxEvent.ChangeType;
+import com.codepipeline.mcp.model.Release;
+import com.codepipeline.mcp.model.ReleaseSet;
+import com.codepipeline.mcp.model.ReleaseStatus;
+import com.codepipeline.mcp.repository.DeploymentJobRepository;
+import com.codepipeline.mcp.repository.ReleaseRepository;
+import com.codepipeline.mcp.repository.ReleaseSetRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Queues deployments of releases and release sets and records their progress.
+ *
+ * <p>Requesting a deployment only stores a {@link DeploymentJob} and marks the target as in progress;
+ * the job is executed by {@link DeploymentWorker} after the request transaction commits. While a job
+ * for a target is queued or running, further requests return that job instead of queuing another; a unique
+ * key on the active target rejects a second job queued by a concurrent request. Only running jobs can
+ * finish, and each only once.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeploymentService {
+
+    private static final Set<DeploymentJob.Status> ACTIVE_STATUSES =
+            EnumSet.of(DeploymentJob.Status.QUEUED, DeploymentJob.Status.RUNNING);
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final DeploymentJobRepository deploymentJobRepository;
+    private final ReleaseRepository releaseRepository;
+    private final ReleaseSetRepository releaseSetRepository;
+    private final AuditorAware<String> auditorProvider;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public DeploymentJobDto deployRelease(String srid, String releaseId, DeployRequest deployRequest) {
+        Release release = releaseRepository.findByReleaseIdAndSrid(releaseId, srid)
+                .orElseThrow(() -> new ResourceNotFoundException("Release not found with id: " + releaseId));
+        
+        return enqueue(srid, DeploymentJob.TargetType.RELEASE, releaseId, deployRequest, () -> {
+            release.setStatus(ReleaseStatus.DEPLOY_IN_PROGRESS);
+            publishChange(release);
+        });
+    }
+
+    @Transactional
+    public DeploymentJobDto deployReleaseSet(String srid, String setId, DeployRequest deployRequest) {
+        ReleaseSet releaseSet = releaseSetRepository.findWithReleaseBySetIdAndSrid(setId, srid)
+                .orElseThrow(() -> new ResourceNotFoundException("Release set not found with id: " + setId));
+        
+        return enqueue(srid, DeploymentJob.TargetType.RELEASE_SET, setId, deployRequest, () -> {
+            releaseSet.setStatus(ReleaseStatus.DEPLOY_IN_PROGRESS);
+            releaseSet.setDeploymentStatus(DeploymentStatus.QUEUED);
+            publishChange(srid, releaseSet);
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public DeploymentJobDto getJob(String srid, String jobId) {
+        return deploymentJobRepository.findByIdAndSrid(jobId, srid)
+                .map(DeploymentJobDto::fromEntity)
+                .orElseThrow(() -> new ResourceNotFoundException("Deployment job not found with id: " + jobId));
+    }
+
+    /**
+     * Claims a queued job for execution and marks its target as deploying.
+     *
+     * @return the claimed job, or empty if the job is no longer queued
+     */
+    @Transactional
+    public Optional<DeploymentJob> start(String jobId) {
+        LocalDateTime now = LocalDateTime.now();
+        if (deploymentJobRepository.claim(jobId, DeploymentJob.Status.QUEUED, DeploymentJob.Status.RUNNING, now) == 0) {
+            return Optional.empty();
+        }
+        
+        DeploymentJob job = deploymentJobRepository.findById(jobId).orElseThrow();
+        if (job.getTargetType() == DeploymentJob.TargetType.RELEASE_SET) {
+            findReleaseSet(job).ifPresent(releaseSet -> {
+                releaseSet.setDeploymentStatus(DeploymentStatus.IN_PROGRESS);
+                publishChange(job.getSrid(), releaseSet);
+            });
+        }
+        return Optional.of(job);
+    }
+
+    /**
+     * Records a successful deployment; does nothing if the job is no longer running.
+     */
+    @Transactional
+    public void complete(String jobId) {
+        Optional<DeploymentJob> finished = finish(jobId, DeploymentJob.Status.SUCCEEDED, null);
+        if (finished.isEmpty()) {
+            return;
+        }
+        
+        DeploymentJob job = finished.get();
+        if (job.getTargetType() == DeploymentJob.TargetType.RELEASE) {
+            findRelease(job).ifPresent(release -> {
+                release.setStatus(ReleaseStatus.DEPLOYED);
+                publishChange(release);
+            });
+        } else {
+            findReleaseSet(job).ifPresent(releaseSet -> {
+                releaseSet.setStatus(ReleaseStatus.DEPLOYED);
+                releaseSet.setDeploymentStatus(DeploymentStatus.COMPLETE);
+                releaseSet.setDeployedBy(job.getRequestedBy());
+                releaseSet.setDeployedAt(job.getCompletedAt());
+                publishChange(job.getSrid(), releaseSet);
+            });
+        }
+    }
+
+    /**
+     * Records a failed deployment; does nothing if the job is no longer running.
+     */
+    @Transactional
+    public void fail(String jobId, String errorMessage) {
+        Optional<DeploymentJob> finished = finish(jobId, DeploymentJob.Status.FAILED, errorMessage);
+        if (finished.isEmpty()) {
+            return;
+        }
+        
+        DeploymentJob job = finished.get();
+        if (job.getTargetType() == DeploymentJob.TargetType.RELEASE) {
+            findRelease(job).ifPresent(release -> {
+                release.setStatus(ReleaseStatus.DEPLOY_FAILED);
+                publishChange(release);
+            });
+        } else {
+            findReleaseSet(job).ifPresent(releaseSet -> {
+                releaseSet.setStatus(ReleaseStatus.DEPLOY_FAILED);
+                releaseSet.setDeploymentStatus(DeploymentStatus.FAILED);
+                publishChange(job.getSrid(), releaseSet);
+            });
+        }
+    }
+
+    /**
+     * Returns queued jobs older than the given age, oldest first, for re-dispatch.
+     */
+    @Transactional(readOnly = true)
+    public List<String> findQueuedJobIds(Duration olderThan, int limit) {
+        return deploymentJobRepository.findIdsByStatusCreatedBefore(
+                DeploymentJob.Status.QUEUED, LocalDateTime.now().minus(olderThan), Limit.of(limit));
+    }
+
+    /**
+     * Returns jobs that have been running for longer than the timeout, oldest first. Their worker died
+     * with the instance that ran it, or hangs.
+     */
+    @Transactional(readOnly = true)
+    public List<String> findStaleRunningJobIds(Duration runningTimeout, int limit) {
+        return deploymentJobRepository.findIdsByStatusUpdatedBefore(
+                DeploymentJob.Status.RUNNING, LocalDateTime.now().minus(runningTimeout), Limit.of(limit));
+    }
+
+    private DeploymentJobDto enqueue(String srid, DeploymentJob.TargetType targetType, String targetId,
+                                     DeployRequest deployRequest, Runnable markTarget) {
+        Optional<DeploymentJob> active = deploymentJobRepository.findFirstBySridAndTargetTypeAndTargetIdAndStatusIn(
+                srid, targetType, targetId, ACTIVE_STATUSES);
+        if (active.isPresent()) {
+            return DeploymentJobDto.fromEntity(active.get());
+        }
+        
+        markTarget.run();
+        DeploymentJob job;
+        try {
+            job = deploymentJobRepository.saveAndFlush(DeploymentJob.builder()
+                    .srid(srid)
+                    .targetType(targetType)
+                    .targetId(targetId)
+                    .level(deployRequest.getLevel())
+                    .environment(deployRequest.getEnvironment())
+                    .description(deployRequest.getDescription())
+                    .runtimeConfiguration(deployRequest.getRuntimeConfiguration())
+                    .requestedBy(auditorProvider.getCurrentAuditor().orElse("system"))
+                    .status(DeploymentJob.Status.QUEUED)
+                    .activeTarget(srid + ":" + targetType + ":" + targetId)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessException("A deployment of " + targetId + " is already queued or running", e);
+        }
+        
+        // Dispatched to the worker pool only after commit, so workers never see an uncommitted job
+        eventPublisher.publishEvent(new DeploymentJobQueuedEvent(job.getId()));
+        log.debug("Queued deployment job {} for {} {}", job.getId(), targetType, targetId);
+        return DeploymentJobDto.fromEntity(job);
+    }
+
+    private Optional<DeploymentJob> finish(String jobId, DeploymentJob.Status status, String errorMessage) {
+        if (errorMessage != null && errorMessage.length() > MAX_ERROR_LENGTH) {
+            errorMessage = errorMessage.substring(0, MAX_ERROR_LENGTH);
+        }
+        if (deploymentJobRepository.finish(jobId, DeploymentJob.Status.RUNNING, status, LocalDateTime.now(),
+                errorMessage) == 0) {
+            log.debug("Deployment job {} is no longer running, not marking it {}", jobId, status);
+            return Optional.empty();
+        }
+        return deploymentJobRepository.findById(jobId);
+    }
+
+    private void publishChange(Release release) {
+        eventPublisher.publishEvent(IspwChangeEvent.of(ChangeType.UPDATED, release));
+    }
+
+    private void publishChange(String srid, ReleaseSet releaseSet) {
+        eventPublisher.publishEvent(
+                IspwChangeEvent.of(ChangeType.UPDATED, srid, releaseSet.getRelease().getReleaseId(), releaseSet));
+    }
+
+    private Optional<Release> findRelease(DeploymentJob job) {
+        return releaseRepository.findByReleaseIdAndSrid(job.getTargetId(), job.getSrid());
+    }
+
+    private Optional<ReleaseSet> findReleaseSet(DeploymentJob job) {
+        return releaseSetRepository.findWithReleaseBySetIdAndSrid(job.getTargetId(), job.getSrid());
+    }
+}
@@ -0,0 +1,161 @@
+package com.codepipeline.mcp.service;
+
+import com.codepipeline.mcp.config.DeploymentProperties;
+import com.codepipeline.mcp.model.DeploymentJob;
+import com.codepipeline.mcp.util.ThreadFactoryUtils;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes queued deployment jobs on a bounded worker pool.
+ *
+ * <p>Jobs are handed to the pool after the transaction that queued them commits. When the pool is
+ * saturated the job simply stays {@code QUEUED} in the database and a periodic sweep dispatches it
+ * once capacity frees up, which also covers jobs left queued by a restart. A job runs at most once
+ * because each worker must atomically claim it before executing. Jobs still running after
+ * {@code mcp.deployment.running-timeout}, such as those whose instance crashed, are failed by the same
+ * sweep so that their target can be deployed again.</p>
+ */
+@Slf4j
+@Component
+public class DeploymentWorker {
+
+    private static final String THREAD_NAME_PREFIX = "deploy-";
+    private static final int STALE_JOB_BATCH_SIZE = 100;
+
+    private final DeploymentService deploymentService;
+    private final DeploymentExecutor deploymentExecutor;
+    private final DeploymentProperties properties;
+    private final ThreadPoolExecutor pool;
+
+    public DeploymentWorker(DeploymentService deploymentService,
+                            DeploymentExecutor deploymentExecutor,
+                            DeploymentProperties properties) {
+        this.deploymentService = deploymentService;
+        this.deploymentExecutor = deploymentExecutor;
+        this.properties = properties;
+        this.pool = new ThreadPoolExecutor(
+                properties.getWorkers(),
+                properties.getWorkers(),
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                threadFactory(properties.isVirtualThreads()),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @TransactionalEventListener
+    public void onJobQueued(DeploymentJobQueuedEvent event) {
+        dispatch(event.jobId());
+    }
+
+    /**
+     * Fails jobs that have been running for too long, then re-dispatches queued jobs that were not handed
+     * to the pool, as many as the pool can accept.
+     */
+    @Scheduled(fixedDelayString = "${mcp.deployment.sweep-interval:PT30S}")
+    public void sweep() {
+        List<String> staleJobIds =
+                deploymentService.findStaleRunningJobIds(properties.getRunningTimeout(), STALE_JOB_BATCH_SIZE);
+        for (String jobId : staleJobIds) {
+            log.warn("Deployment job {} did not finish within {}, marking it failed",
+                    jobId, properties.getRunningTimeout());
+            recordFailure(jobId, "Deployment did not finish within " + properties.getRunningTimeout());
+        }
+        
+        int capacity = pool.getQueue().remainingCapacity();
+        if (capacity == 0) {
+            return;
+        }
+        
+        List<String> jobIds = deploymentService.findQueuedJobIds(properties.getSweepInterval(), capacity);
+        jobIds.forEach(this::dispatch);
+    }
+
+    /**
+     * Hands a job to the pool.
+     *
+     * @return {@code false} if the pool is saturated and the job was left for the next sweep
+     */
+    public boolean dispatch(String jobId) {
+        try {
+            pool.execute(() -> run(jobId));
+            return true;
+        } catch (RejectedExecutionException e) {
+            log.debug("Deployment pool saturated, job {} stays queued", jobId);
+            return false;
+        }
+    }
+
+    void run(String jobId) {
+        Optional<DeploymentJob> claimed;
+        try {
+            claimed = deploymentService.start(jobId);
+        } catch (RuntimeException e) {
+            log.error("Failed to start deployment job {}", jobId, e);
+            return;
+        }
+        if (claimed.isEmpty()) {
+            return;
+        }
+        
+        try {
+            deploymentExecutor.deploy(claimed.get());
+        } catch (Exception e) {
+            log.warn("Deployment job {} failed: {}", jobId, e.getMessage());
+            recordFailure(jobId, e.getMessage() != null ? e.getMessage() : e.getClass().getName());
+            return;
+        }
+        
+        try {
+            deploymentService.complete(jobId);
+            log.info("Deployment job {} succeeded", jobId);
+        } catch (RuntimeException e) {
+            log.error("Failed to record completion of deployment job {}", jobId, e);
+            recordFailure(jobId, "Deployment finished but its completion could not be recorded: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Marks a job failed. If that fails too, the job stays running until the sweep times it out.
+     */
+    private void recordFailure(String jobId, String errorMessage) {
+        try {
+            deploymentService.fail(jobId, errorMessage);
+        } catch (RuntimeException e) {
+            log.error("Failed to record failure of deployment job {}", jobId, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        pool.shutdown();
+        if (!pool.awaitTermination(properties.getShutdownTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("Deployment workers did not finish within {}, interrupting", properties.getShutdownTimeout());
+            pool.shutdownNow();
+        }
+    }
+
+    private static ThreadFactory threadFactory(boolean virtualThreads) {
+        if (virtualThreads) {
+            ThreadFactory virtual = ThreadFactoryUtils.virtualThreadFactory(THREAD_NAME_PREFIX);
+            if (virtual != null) {
+                return virtual;
+            }
+            log.info("Virtual threads are not available on this JVM, using platform threads for deployments");
+        }
+        return new CustomizableThreadFactory(THREAD_NAME_PREFIX);
+    }
+}
@@ -0,0 +1,42 @@
+package com.codepipeline.mcp.service;
+
+import com.codepipeline.mcp.model.Assignment;
+import com.codepipeline.mcp.model.OutboxEvent.ChangeType;
+import com.codepipeline.mcp.model.OutboxEvent.Topic;
+import com.codepipeline.mcp.model.Release;
+import com.codepipeline.mcp.model.ReleaseSet;
+import com.codepipeline.mcp.model.Task;
+
+/**
+ * Published by the ISPW services whenever an assignment, task, release or release set is created,
+ * updated or deleted; recorded in the outbox within the publishing transaction.
+ *
+ * <p>Parent keys are passed explicitly so that building an event never initializes a lazy parent.</p>
+ */
+public record IspwChangeEvent(Topic topic, ChangeType changeType, String srid, String resourceId,
+                              String parentId, String status) {
+
+    public static IspwChangeEvent of(ChangeType changeType, Assignment assignment) {
+        return new IspwChangeEvent(Topic.ASSIGNMENTS, changeType, assignment.getSrid(),
+                assignment.getAssignmentId(), null, name(assignment.getStatus()));
+    }
+
+    public static IspwChangeEvent of(ChangeType changeType, String srid, String assignmentId, Task task) {
+        return new IspwChangeEvent(Topic.TASKS, changeType, srid, task.getTaskId(), assignmentId,
+                name(task.getStatus()));
+    }
+
+    public static IspwChangeEvent of(ChangeType changeType, Release release) {
+        return new IspwChangeEvent(Topic.RELEASES, changeType, release.getSrid(), release.getReleaseId(), null,
+                name(release.getStatus()));
+    }
+
+    public static IspwChangeEvent of(ChangeType changeType, String srid, String releaseId, ReleaseSet releaseSet) {
+        return new IspwChangeEvent(Topic.RELEASE_SETS, changeType, srid, releaseSet.getSetId(), releaseId,
+                name(releaseSet.getStatus()));
+    }
+
+    private static String name(Enum<?> status) {
+        return status != null ? status.name() : null;
+    }
+}
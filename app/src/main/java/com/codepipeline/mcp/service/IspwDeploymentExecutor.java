@@ -0,0 +1,42 @@
+package com.codepipeline.mcp.service;
+
+import com.codepipeline.mcp.client.IspwClient;
+import com.codepipeline.mcp.dto.DeployRequest;
+import com.codepipeline.mcp.dto.IspwOperationResponse;
+import com.codepipeline.mcp.model.DeploymentJob;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Executes deployment jobs by calling the ISPW deploy operation for the job's release or set.
+ */
+@RequiredArgsConstructor
+public class IspwDeploymentExecutor implements DeploymentExecutor {
+
+    private final IspwClient ispwClient;
+
+    @Override
+    public void deploy(DeploymentJob job) {
+        DeployRequest request = DeployRequest.builder()
+                .level(job.getLevel())
+                .environment(job.getEnvironment())
+                .description(job.getDescription())
+                .runtimeConfiguration(job.getRuntimeConfiguration())
+                .build();
+        CompletableFuture<IspwOperationResponse> call = job.getTargetType() == DeploymentJob.TargetType.RELEASE
+                ? ispwClient.deployRelease(job.getSrid(), job.getTargetId(), request)
+                : ispwClient.deploySet(job.getSrid(), job.getTargetId(), request);
+        
+        IspwOperationResponse response;
+        try {
+            response = call.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException runtimeException ? runtimeException : e;
+        }
+        if (response.getStatus() == IspwOperationResponse.Status.FAILED) {
+            throw new IllegalStateException(response.getMessage() != null ? response.getMessage() : "ISPW deploy failed");
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.codepipeline.mcp.service;
+
+import com.codepipeline.mcp.client.IspwClient;
+import com.codepipeline.mcp.dto.DeployRequest;
+import com.codepipeline.mcp.dto.GenerateRequest;
+import com.codepipeline.mcp.dto.IspwOperationResponse;
+import com.codepipeline.mcp.dto.PromoteRequest;
+import com.codepipeline.mcp.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Forwards generate, promote and deploy operations on assignments to ISPW/CES.
+ *
+ * <p>Operations on several assignments are sent concurrently rather than one after another; the
+ * client bounds how many are in flight. A failure for one assignment is reported in its entry and
+ * does not fail the others.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IspwOperationService {
+
+    public static final int MAX_FAN_OUT = 100;
+
+    private final IspwClient ispwClient;
+
+    public CompletableFuture<IspwOperationResponse> generate(String srid, String assignmentId,
+                                                             GenerateRequest request) {
+        return ispwClient.generate(srid, assignmentId, request);
+    }
+
+    public CompletableFuture<IspwOperationResponse> promote(String srid, String assignmentId,
+                                                            PromoteRequest request) {
+        return ispwClient.promote(srid, assignmentId, request);
+    }
+
+    public CompletableFuture<IspwOperationResponse> deploy(String srid, String assignmentId,
+                                                           DeployRequest request) {
+        return ispwClient.deployAssignment(srid, assignmentId, request);
+    }
+
+    public CompletableFuture<Map<String, IspwOperationResponse>> generateAll(String srid, List<String> assignmentIds,
+                                                                             GenerateRequest request) {
+        return fanOut(assignmentIds, assignmentId -> ispwClient.generate(srid, assignmentId, request));
+    }
+
+    public CompletableFuture<Map<String, IspwOperationResponse>> promoteAll(String srid, List<String> assignmentIds,
+                                                                            PromoteRequest request) {
+        return fanOut(assignmentIds, assignmentId -> ispwClient.promote(srid, assignmentId, request));
+    }
+
+    private CompletableFuture<Map<String, IspwOperationResponse>> fanOut(
+            List<String> assignmentIds, Function<String, CompletableFuture<IspwOperationResponse>> operation) {
+        Set<String> targets = assignmentIds == null ? Set.of() : new LinkedHashSet<>(assignmentIds);
+        if (targets.isEmpty()) {
+            throw new BusinessException("At least one assignment id is required");
+        }
+        if (targets.size() > MAX_FAN_OUT) {
+            throw new BusinessException("At most " + MAX_FAN_OUT + " assignments can be processed per request");
+        }
+        
+        Map<String, CompletableFuture<IspwOperationResponse>> calls = new LinkedHashMap<>();
+        for (String assignmentId : targets) {
+            calls.put(assignmentId, operation.apply(assignmentId)
+                    .exceptionally(error -> failed(assignmentId, error)));
+        }
+        
+        return CompletableFuture.allOf(calls.values().toArray(CompletableFuture[]::new))
+                .thenApply(done -> {
+                    Map<String, IspwOperationResponse> results = new LinkedHashMap<>();
+                    calls.forEach((assignmentId, call) -> results.put(assignmentId, call.join()));
+                    return results;
+                });
+    }
+
+    private static IspwOperationResponse failed(String assignmentId, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        log.warn("ISPW operation for assignment {} failed: {}", assignmentId, cause.getMessage());
+        return IspwOperationResponse.builder()
+                .status(IspwOperationResponse.Status.FAILED)
+                .message(cause.getMessage())
+                .startTime(OffsetDateTime.now())
+                .build();
+    }
+}
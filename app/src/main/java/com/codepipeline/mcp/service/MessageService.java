@@ -3,6 +3,7 @@ package com.codepipeline.mcp.service;
 import com.codepipeline.mcp.exception.ResourceNotFoundException;
 import com.codepipeline.mcp.model.Message;
 import com.codepipeline.mcp.repository.MessageRepository;
+import com.codepipeline.mcp.util.UuidUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -62,6 +63,10 @@ public class MessageService {
      */
     @Transactional(readOnly = true)
     public Message findById(String id) {
+        // IDs are stored as native UUIDs; anything else cannot match and must not reach the driver
+        if (!UuidUtils.isUuid(id)) {
+            throw new ResourceNotFoundException("Message", "id", id);
+        }
         return messageRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Message", "id", id));
     }
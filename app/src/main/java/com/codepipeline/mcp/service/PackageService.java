@@ -0,0 +1,91 @@
+package com.codepipeline.mcp.service;
+
+import com.codepipeline.mcp.dto.CursorPage;
+import com.codepipeline.mcp.dto.PackageDto;
+import com.codepipeline.mcp.exception.BusinessException;
+import com.codepipeline.mcp.exception.ResourceNotFoundException;
+import com.codepipeline.mcp.model.IspwPackage;
+import com.codepipeline.mcp.repository.PackageRepository;
+import com.codepipeline.mcp.util.CursorUtils;
+import com.codepipeline.mcp.util.MergeUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class PackageService {
+
+    private final PackageRepository packageRepository;
+
+    @Transactional(readOnly = true)
+    public CursorPage<PackageDto> getPackages(String srid, String packageId, String application, String status,
+                                              String cursor, int limit) {
+        int pageSize = CursorUtils.normalizeLimit(limit);
+        CursorUtils.Cursor position = CursorUtils.decode(cursor);
+        
+        // A package ID filter is a point lookup on the unique (srid, package_id) key
+        if (packageId != null && !packageId.isEmpty()) {
+            List<PackageDto> match = position == null
+                    ? packageRepository.findDtoByPackageIdAndSrid(packageId, srid).stream().toList()
+                    : List.of();
+            return CursorUtils.toPage(match, pageSize, PackageDto::getCreatedAt, PackageDto::getId);
+        }
+        
+        String applicationFilter = (application != null && !application.isEmpty()) ? application : null;
+        List<PackageDto> rows;
+        if (status != null && !status.isEmpty()) {
+            rows = position == null
+                    ? packageRepository.findFirstPageBySridAndStatus(
+                            srid, status, applicationFilter, CursorUtils.window(pageSize))
+                    : packageRepository.findPageBySridAndStatusAfter(
+                            srid, status, applicationFilter, position.createdAt(), position.id(),
+                            CursorUtils.window(pageSize));
+        } else {
+            rows = position == null
+                    ? packageRepository.findFirstPageBySrid(srid, applicationFilter, CursorUtils.window(pageSize))
+                    : packageRepository.findPageBySridAfter(
+                            srid, applicationFilter, position.createdAt(), position.id(),
+                            CursorUtils.window(pageSize));
+        }
+        return CursorUtils.toPage(rows, pageSize, PackageDto::getCreatedAt, PackageDto::getId);
+    }
+
+    @Transactional(readOnly = true)
+    public PackageDto getPackage(String srid, String packageId) {
+        return packageRepository.findDtoByPackageIdAndSrid(packageId, srid)
+                .orElseThrow(() -> new ResourceNotFoundException("Package not found with id: " + packageId));
+    }
+
+    @Transactional
+    public PackageDto createPackage(String srid, PackageDto packageDto) {
+        if (packageRepository.existsByPackageIdAndSrid(packageDto.getPackageId(), srid)) {
+            throw new BusinessException("Package with id " + packageDto.getPackageId() + " already exists");
+        }
+        
+        IspwPackage ispwPackage = PackageDto.toEntity(packageDto);
+        ispwPackage.setSrid(srid);
+        
+        IspwPackage savedPackage = packageRepository.saveAndFlush(ispwPackage);
+        return PackageDto.fromEntity(savedPackage);
+    }
+
+    @Transactional
+    public PackageDto updatePackage(String srid, String packageId, PackageDto packageDto) {
+        IspwPackage existingPackage = packageRepository.findByPackageIdAndSrid(packageId, srid)
+                .orElseThrow(() -> new ResourceNotFoundException("Package not found with id: " + packageId));
+        
+        MergeUtils.setIfChanged(existingPackage.getDescription(), packageDto.getDescription(),
+                existingPackage::setDescription);
+        MergeUtils.setIfChanged(existingPackage.getOwner(), packageDto.getOwner(), existingPackage::setOwner);
+        MergeUtils.setIfChanged(existingPackage.getApplication(), packageDto.getApplication(),
+                existingPackage::setApplication);
+        MergeUtils.setIfChanged(existingPackage.getStatus(), packageDto.getStatus(), existingPackage::setStatus);
+        
+        // Flush so the returned version matches the row and can be used as an ETag
+        IspwPackage updatedPackage = packageRepository.saveAndFlush(existingPackage);
+        return PackageDto.fromEntity(updatedPackage);
+    }
+}
@@ -0,0 +1,30 @@
+package com.codepipeline.mcp.service;
+
+import com.codepipeline.mcp.model.OutboxEvent.ChangeType;
+import com.codepipeline.mcp.model.OutboxEvent.Topic;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Evicts deleted assignments and releases from the {@link ParentLookupService} caches after the delete
+ * committed, so a rolled back delete keeps its key.
+ */
+@Component
+@RequiredArgsConstructor
+public class ParentLookupEvictionListener {
+
+    private final ParentLookupService parentLookupService;
+
+    @TransactionalEventListener
+    public void onChangeCommitted(IspwChangeEvent event) {
+        if (event.changeType() != ChangeType.DELETED) {
+            return;
+        }
+        if (event.topic() == Topic.ASSIGNMENTS) {
+            parentLookupService.evictAssignment(event.srid(), event.resourceId());
+        } else if (event.topic() == Topic.RELEASES) {
+            parentLookupService.evictRelease(event.srid(), event.resourceId());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.codepipeline.mcp.service;
+
+import com.codepipeline.mcp.repository.AssignmentRepository;
+import com.codepipeline.mcp.repository.ReleaseRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Resolves assignments and releases from their {@code (srid, business id)} pair to their primary key.
+ *
+ * <p>Child operations (tasks, release sets) only need to know that the parent exists and what its
+ * primary key is, so the result is cached and repeated calls against the same parent skip the lookup
+ * query. Only hits are cached; a parent created after a miss is found on the next call. Deleted parents
+ * are evicted by {@link ParentLookupEvictionListener} once their delete has committed.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class ParentLookupService {
+
+    public static final String ASSIGNMENT_KEYS = "assignmentKeys";
+    public static final String RELEASE_KEYS = "releaseKeys";
+
+    private final AssignmentRepository assignmentRepository;
+    private final ReleaseRepository releaseRepository;
+
+    /**
+     * Returns the primary key of the assignment, if it exists in the given SRID.
+     */
+    @Cacheable(cacheNames = ASSIGNMENT_KEYS, unless = "#result == null")
+    public Optional<String> findAssignmentKey(String srid, String assignmentId) {
+        return assignmentRepository.findIdByAssignmentIdAndSrid(assignmentId, srid);
+    }
+
+    /**
+     * Returns the primary key of the release, if it exists in the given SRID.
+     */
+    @Cacheable(cacheNames = RELEASE_KEYS, unless = "#result == null")
+    public Optional<String> findReleaseKey(String srid, String releaseId) {
+        return releaseRepository.findIdByReleaseIdAndSrid(releaseId, srid);
+    }
+
+    /**
+     * Evicts the assignment immediately. Callers run after commit, where an eviction deferred by the
+     * transaction-aware cache would never be applied.
+     */
+    @CacheEvict(cacheNames = ASSIGNMENT_KEYS, beforeInvocation = true)
+    public void evictAssignment(String srid, String assignmentId) {
+        // Eviction is performed by the cache interceptor
+    }
+
+    /**
+     * Evicts the release immediately, see {@link #evictAssignment}.
+     */
+    @CacheEvict(cacheNames = RELEASE_KEYS, beforeInvocation = true)
+    public void evictRelease(String srid, String releaseId) {
+        // Eviction is performed by the cache interceptor
+    }
+}
@@ -0,0 +1,127 @@
+package com.codepipeline.mcp.service;
+
+import com.codepipeline.mcp.dto.PresenceDigestDto;
+import com.codepipeline.mcp.dto.PresenceSnapshotDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Tracks which users are connected over WebSocket and publishes the changes as periodic digests.
+ *
+ * <p>Connects and disconnects only update in-memory maps. Every
+ * {@code mcp.client.websocket.presence-digest-interval} the users online are compared with those in
+ * the previous digest, and the difference is sent to {@code /topic/presence} as one message, so a
+ * reconnect storm costs one broadcast per interval instead of one per session. A user counts as online
+ * while at least one of their sessions is open.</p>
+ *
+ * <p>Sessions are only known to the instance that holds them, while with a broker relay every
+ * instance publishes to the same topic. Digests and snapshots therefore describe one instance and
+ * carry its {@link #getInstanceId() id}; a client tracks the users of each instance separately and
+ * treats a user as online while any instance lists them.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PresenceService {
+
+    public static final String PRESENCE_TOPIC = "/topic/presence";
+
+    private final SimpMessageSendingOperations messagingTemplate;
+
+    /**
+     * Identifies this instance in digests and snapshots; new on every start, so a restarted instance
+     * does not inherit the users another client still attributes to its previous run.
+     */
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final Map<String, String> sessionUsers = new ConcurrentHashMap<>();
+    private final Map<String, Integer> userSessionCounts = new ConcurrentHashMap<>();
+    private final AtomicBoolean changed = new AtomicBoolean();
+
+    /**
+     * Users online as of the last digest; only read and written by {@link #publishDigest()}.
+     */
+    private Set<String> publishedUsers = Set.of();
+
+    public void connected(String sessionId, String username) {
+        if (sessionUsers.putIfAbsent(sessionId, username) == null) {
+            userSessionCounts.merge(username, 1, Integer::sum);
+            changed.set(true);
+        }
+    }
+
+    /**
+     * Records a disconnect; repeated disconnects of the same session are ignored.
+     */
+    public void disconnected(String sessionId) {
+        String username = sessionUsers.remove(sessionId);
+        if (username != null) {
+            userSessionCounts.computeIfPresent(username, (user, count) -> count > 1 ? count - 1 : null);
+            changed.set(true);
+        }
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    public PresenceSnapshotDto getSnapshot() {
+        return PresenceSnapshotDto.builder()
+                .instanceId(instanceId)
+                .users(userSessionCounts.keySet().stream().sorted().toList())
+                .sessionCount(sessionUsers.size())
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * Sends the presence changes since the previous digest, if there are any.
+     */
+    @Scheduled(fixedDelayString = "${mcp.client.websocket.presence-digest-interval:PT2S}")
+    public synchronized void publishDigest() {
+        if (!changed.getAndSet(false)) {
+            return;
+        }
+
+        Set<String> online = Set.copyOf(userSessionCounts.keySet());
+        List<String> joined = difference(online, publishedUsers);
+        List<String> left = difference(publishedUsers, online);
+        if (joined.isEmpty() && left.isEmpty()) {
+            return;
+        }
+
+        PresenceDigestDto digest = PresenceDigestDto.builder()
+                .instanceId(instanceId)
+                .joined(joined)
+                .left(left)
+                .onlineCount(online.size())
+                .timestamp(LocalDateTime.now())
+                .build();
+        try {
+            messagingTemplate.convertAndSend(PRESENCE_TOPIC, digest);
+            publishedUsers = online;
+        } catch (RuntimeException e) {
+            // Keep the previous state so the next digest covers these changes too
+            log.warn("Publishing presence digest failed: {}", e.getMessage());
+            changed.set(true);
+        }
+    }
+
+    private static List<String> difference(Set<String> users, Set<String> excluded) {
+        return users.stream()
+                .filter(user -> !excluded.contains(user))
+                .sorted()
+                .toList();
+    }
+}
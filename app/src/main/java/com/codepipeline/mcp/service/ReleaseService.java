@@ -0,0 +1,160 @@
+package com.codepipeline.mcp.service;
+
+import com.codepipeline.mcp.dto.CursorPage;
+import com.codepipeline.mcp.dto.ReleaseDto;
+import com.codepipeline.mcp.dto.ReleaseFilter;
+import com.codepipeline.mcp.dto.ReleaseSetDto;
+import com.codepipeline.mcp.exception.ResourceNotFoundException;
+import com.codepipeline.mcp.model.OutboxEvent.ChangeType;
+import com.codepipeline.mcp.model.Release;
+import com.codepipeline.mcp.model.ReleaseSet;
+import com.codepipeline.mcp.repository.FilterSpecifications;
+import com.codepipeline.mcp.repository.ListProjectionRepository;
+import com.codepipeline.mcp.repository.ReleaseRepository;
+import com.codepipeline.mcp.repository.ReleaseSetRepository;
+import com.codepipeline.mcp.repository.ReleaseSpecifications;
+import com.codepipeline.mcp.util.CursorUtils;
+import com.codepipeline.mcp.util.FieldSelection;
+import com.codepipeline.mcp.util.MergeUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class ReleaseService {
+
+    /**
+     * Distribution of release set rows inserted, updated or deleted per release update.
+     */
+    public static final String SET_ROWS_WRITTEN_METRIC = "ispw.release.update.set.rows";
+
+    /** {@code fields} value that keeps each release's sets in a page that selects fields. */
+    public static final String FIELD_SETS = "sets";
+
+    private static final List<String> SELECTABLE = Stream.concat(
+            ReleaseDto.LIST_FIELDS.keySet().stream(), Stream.of(FIELD_SETS)).toList();
+
+    private final ReleaseRepository releaseRepository;
+    private final ReleaseSetRepository releaseSetRepository;
+    private final ParentLookupService parentLookupService;
+    private final ListProjectionRepository listProjectionRepository;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(readOnly = true)
+    public CursorPage<ReleaseDto> getReleases(String srid, ReleaseFilter filter, String fields,
+                                              String cursor, int limit) {
+        int pageSize = CursorUtils.normalizeLimit(limit);
+        CursorUtils.Cursor position = CursorUtils.decode(cursor);
+        List<String> selected = FieldSelection.resolve(fields, SELECTABLE, FilterSpecifications.KEYSET_ATTRIBUTES);
+        List<String> attributes = selected.stream()
+                .filter(ReleaseDto.LIST_FIELDS::containsKey)
+                .toList();
+        
+        List<ReleaseDto> rows = listProjectionRepository.findAll(
+                        Release.class,
+                        ReleaseSpecifications.matching(srid, filter).and(FilterSpecifications.after(position)),
+                        attributes, FilterSpecifications.KEYSET_ORDER, CursorUtils.window(pageSize)).stream()
+                .map(ReleaseDto::fromTuple)
+                .toList();
+        CursorPage<ReleaseDto> page = CursorUtils.toPage(rows, pageSize, ReleaseDto::getCreatedAt, ReleaseDto::getId);
+        
+        if (!selected.contains(FIELD_SETS) || page.getItems().isEmpty()) {
+            return page;
+        }
+        
+        // Load the sets of every release on the page with a single IN query instead of one query per release
+        Map<String, List<ReleaseSet>> setsByRelease = releaseSetRepository
+                .findByReleaseIdIn(page.getItems().stream().map(ReleaseDto::getId).toList()).stream()
+                .collect(Collectors.groupingBy(releaseSet -> releaseSet.getRelease().getId()));
+        page.getItems().forEach(release -> release.setSets(
+                setsByRelease.getOrDefault(release.getId(), List.of()).stream()
+                        .map(ReleaseSetDto::fromEntity)
+                        .toList()));
+        return page;
+    }
+
+    @Transactional(readOnly = true)
+    public ReleaseDto getRelease(String srid, String releaseId) {
+        Release release = releaseRepository.findByReleaseIdAndSrid(releaseId, srid)
+                .orElseThrow(() -> new ResourceNotFoundException("Release not found with id: " + releaseId));
+        
+        return ReleaseDto.fromEntity(release);
+    }
+
+    @Transactional
+    public ReleaseDto createRelease(String srid, ReleaseDto releaseDto) {
+        if (releaseRepository.existsByReleaseIdAndSrid(releaseDto.getReleaseId(), srid)) {
+            throw new IllegalArgumentException("Release with id " + releaseDto.getReleaseId() + " already exists");
+        }
+        
+        Release release = ReleaseDto.toEntity(releaseDto);
+        release.setSrid(srid);
+        // Client-supplied ids would turn the cascaded persist into one merge (SELECT) per row
+        release.setId(null);
+        release.getSets().forEach(releaseSet -> releaseSet.setId(null));
+        
+        Release savedRelease = releaseRepository.save(release);
+        eventPublisher.publishEvent(IspwChangeEvent.of(ChangeType.CREATED, savedRelease));
+        return ReleaseDto.fromEntity(savedRelease);
+    }
+
+    @Transactional
+    public ReleaseDto updateRelease(String srid, String releaseId, ReleaseDto releaseDto) {
+        Release existingRelease = releaseRepository.findByReleaseIdAndSrid(releaseId, srid)
+                .orElseThrow(() -> new ResourceNotFoundException("Release not found with id: " + releaseId));
+        
+        // Update fields from DTO
+        existingRelease.setApplication(releaseDto.getApplication());
+        existingRelease.setStream(releaseDto.getStream());
+        existingRelease.setOwner(releaseDto.getOwner());
+        existingRelease.setStatus(releaseDto.getStatus());
+        existingRelease.setDescription(releaseDto.getDescription());
+        
+        // Reconcile sets by setId so that only new, changed and removed sets are written
+        if (releaseDto.getSets() != null) {
+            MergeUtils.MergeResult result = MergeUtils.mergeByKey(
+                    new ArrayList<>(existingRelease.getSets()),
+                    releaseDto.getSets(),
+                    ReleaseSet::getSetId,
+                    ReleaseSetDto::getSetId,
+                    ReleaseSetDto::updateEntity,
+                    ReleaseService::newReleaseSet,
+                    existingRelease::addSet,
+                    existingRelease::removeSet
+            );
+            meterRegistry.summary(SET_ROWS_WRITTEN_METRIC).record(result.rowsWritten());
+        }
+        
+        Release updatedRelease = releaseRepository.save(existingRelease);
+        eventPublisher.publishEvent(IspwChangeEvent.of(ChangeType.UPDATED, updatedRelease));
+        return ReleaseDto.fromEntity(updatedRelease);
+    }
+
+    private static ReleaseSet newReleaseSet(ReleaseSetDto setDto) {
+        ReleaseSet releaseSet = ReleaseSetDto.toEntity(setDto);
+        releaseSet.setId(null);
+        return releaseSet;
+    }
+
+    @Transactional
+    public void deleteRelease(String srid, String releaseId) {
+        Release release = releaseRepository.findByReleaseIdAndSrid(releaseId, srid)
+                .orElseThrow(() -> new ResourceNotFoundException("Release not found with id: " + releaseId));
+        
+        releaseRepository.delete(release);
+        // The delete cascades to the sets, which were loaded to remove them
+        release.getSets().forEach(releaseSet ->
+                eventPublisher.publishEvent(IspwChangeEvent.of(ChangeType.DELETED, srid, releaseId, releaseSet)));
+        eventPublisher.publishEvent(IspwChangeEvent.of(ChangeType.DELETED, release));
+    }
+}
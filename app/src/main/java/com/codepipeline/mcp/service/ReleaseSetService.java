@@ -1,19 +1,19 @@
 package com.codepipeline.mcp.service;
 
-import com.codepipeline.mcp.dto.DeployRequest;
+import com.codepipeline.mcp.dto.CursorPage;
 import com.codepipeline.mcp.dto.ReleaseSetDto;
 import com.codepipeline.mcp.exception.ResourceNotFoundException;
-import com.codepipeline.mcp.model.Release;
+import com.codepipeline.mcp.model.OutboxEvent.ChangeType;
 import com.codepipeline.mcp.model.ReleaseSet;
 import com.codepipeline.mcp.repository.ReleaseRepository;
 import com.codepipeline.mcp.repository.ReleaseSetRepository;
+import com.codepipeline.mcp.util.CursorUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -21,12 +21,21 @@ public class ReleaseSetService {
 
     private final ReleaseSetRepository releaseSetRepository;
     private final ReleaseRepository releaseRepository;
+    private final ParentLookupService parentLookupService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
-    public List<ReleaseSetDto> getReleaseSets(String srid) {
-        return releaseSetRepository.findByReleaseSrid(srid).stream()
-                .map(ReleaseSetDto::fromEntity)
-                .collect(Collectors.toList());
+    public CursorPage<ReleaseSetDto> getReleaseSets(String srid, String cursor, int limit) {
+        int pageSize = CursorUtils.normalizeLimit(limit);
+        CursorUtils.Cursor position = CursorUtils.decode(cursor);
+        
+        List<ReleaseSet> releaseSets = position == null
+                ? releaseSetRepository.findFirstPageByReleaseSrid(srid, CursorUtils.window(pageSize))
+                : releaseSetRepository.findPageByReleaseSridAfter(
+                        srid, position.createdAt(), position.id(), CursorUtils.window(pageSize));
+        
+        return CursorUtils.toPage(releaseSets, pageSize, ReleaseSet::getCreatedAt, ReleaseSet::getId)
+                .map(ReleaseSetDto::fromEntity);
     }
 
     @Transactional(readOnly = true)
@@ -39,31 +48,26 @@ public class ReleaseSetService {
 
     @Transactional
     public ReleaseSetDto createReleaseSet(String srid, String releaseId, ReleaseSetDto releaseSetDto) {
-        // Get the release first
-        Release release = releaseRepository.findByReleaseIdAndSrid(releaseId, srid)
-                .orElseThrow(() -> new ResourceNotFoundException("Release not found with id: " + releaseId));
+        String releaseKey = requireReleaseKey(srid, releaseId);
         
-        if (releaseSetRepository.existsBySetIdAndReleaseId(releaseSetDto.getSetId(), releaseId)) {
+        if (releaseSetRepository.existsBySetIdAndReleaseId(releaseSetDto.getSetId(), releaseKey)) {
             throw new IllegalArgumentException("Release set with id " + releaseSetDto.getSetId() + " already exists in release " + releaseId);
         }
         
         ReleaseSet releaseSet = ReleaseSetDto.toEntity(releaseSetDto);
-        release.addSet(releaseSet);
-        
-        // Save the release to cascade the save to releaseSet
-        releaseRepository.save(release);
+        // Attach through a reference so neither the release nor its set collection is loaded
+        releaseSet.setRelease(releaseRepository.getReferenceById(releaseKey));
         
-        return ReleaseSetDto.fromEntity(releaseSet);
+        ReleaseSet savedReleaseSet = releaseSetRepository.save(releaseSet);
+        eventPublisher.publishEvent(IspwChangeEvent.of(ChangeType.CREATED, srid, releaseId, savedReleaseSet));
+        return ReleaseSetDto.fromEntity(savedReleaseSet);
     }
 
     @Transactional
     public ReleaseSetDto updateReleaseSet(String srid, String releaseId, String setId, ReleaseSetDto releaseSetDto) {
-        // Verify release exists
-        if (!releaseRepository.existsByReleaseIdAndSrid(releaseId, srid)) {
-            throw new ResourceNotFoundException("Release not found with id: " + releaseId);
-        }
+        String releaseKey = requireReleaseKey(srid, releaseId);
         
-        ReleaseSet existingReleaseSet = releaseSetRepository.findBySetIdAndReleaseId(setId, releaseId)
+        ReleaseSet existingReleaseSet = releaseSetRepository.findBySetIdAndReleaseId(setId, releaseKey)
                 .orElseThrow(() -> new ResourceNotFoundException("Release set not found with id: " + setId));
         
         // Update fields from DTO
@@ -75,37 +79,23 @@ public class ReleaseSetService {
         existingReleaseSet.setDeploymentStatus(releaseSetDto.getDeploymentStatus());
         
         ReleaseSet updatedReleaseSet = releaseSetRepository.save(existingReleaseSet);
+        eventPublisher.publishEvent(IspwChangeEvent.of(ChangeType.UPDATED, srid, releaseId, updatedReleaseSet));
         return ReleaseSetDto.fromEntity(updatedReleaseSet);
     }
 
     @Transactional
     public void deleteReleaseSet(String srid, String releaseId, String setId) {
-        if (!releaseRepository.existsByReleaseIdAndSrid(releaseId, srid)) {
-            throw new ResourceNotFoundException("Release not found with id: " + releaseId);
-        }
+        String releaseKey = requireReleaseKey(srid, releaseId);
         
-        ReleaseSet releaseSet = releaseSetRepository.findBySetIdAndReleaseId(setId, releaseId)
+        ReleaseSet releaseSet = releaseSetRepository.findBySetIdAndReleaseId(setId, releaseKey)
                 .orElseThrow(() -> new ResourceNotFoundException("Release set not found with id: " + setId));
         
         releaseSetRepository.delete(releaseSet);
+        eventPublisher.publishEvent(IspwChangeEvent.of(ChangeType.DELETED, srid, releaseId, releaseSet));
     }
 
-    @Transactional
-    public ReleaseSetDto deployReleaseSet(String srid, String setId, DeployRequest deployRequest) {
-        ReleaseSet releaseSet = releaseSetRepository.findBySetIdAndReleaseSrid(setId, srid)
-                .orElseThrow(() -> new ResourceNotFoundException("Release set not found with id: " + setId));
-        
-        // Update release set status
-        releaseSet.setStatus("DEPLOY_IN_PROGRESS");
-        releaseSet.setDeployedBy("system");
-        releaseSet.setDeployedAt(LocalDateTime.now());
-        releaseSet.setDeploymentStatus("IN_PROGRESS");
-        
-        ReleaseSet updatedReleaseSet = releaseSetRepository.save(releaseSet);
-        
-        // In a real implementation, you would trigger the actual deployment process here
-        // and update the status asynchronously
-        
-        return ReleaseSetDto.fromEntity(updatedReleaseSet);
+    private String requireReleaseKey(String srid, String releaseId) {
+        return parentLookupService.findReleaseKey(srid, releaseId)
+                .orElseThrow(() -> new ResourceNotFoundException("Release not found with id: " + releaseId));
     }
 }
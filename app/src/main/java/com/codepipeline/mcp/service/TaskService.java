@@ -0,0 +1,207 @@
+package com.codepipeline.mcp.service;
+
+import com.codepipeline.mcp.dto.CursorPage;
+import com.codepipeline.mcp.dto.TaskBatchResponse;
+import com.codepipeline.mcp.dto.TaskBatchResult;
+import com.codepipeline.mcp.dto.TaskDto;
+import com.codepipeline.mcp.exception.BusinessException;
+import com.codepipeline.mcp.exception.ResourceNotFoundException;
+import com.codepipeline.mcp.model.Assignment;
+import com.codepipeline.mcp.model.OutboxEvent.ChangeType;
+import com.codepipeline.mcp.model.Task;
+import com.codepipeline.mcp.repository.AssignmentRepository;
+import com.codepipeline.mcp.repository.TaskRepository;
+import com.codepipeline.mcp.util.CursorUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class TaskService {
+
+    /**
+     * Maximum number of tasks accepted by a single batch request.
+     */
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    private final TaskRepository taskRepository;
+    private final AssignmentRepository assignmentRepository;
+    private final ParentLookupService parentLookupService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(readOnly = true)
+    public CursorPage<TaskDto> getTasks(String srid, String assignmentId, String cursor, int limit) {
+        int pageSize = CursorUtils.normalizeLimit(limit);
+        CursorUtils.Cursor position = CursorUtils.decode(cursor);
+        
+        List<Task> tasks = position == null
+                ? taskRepository.findFirstPageByAssignment(srid, assignmentId, CursorUtils.window(pageSize))
+                : taskRepository.findPageByAssignmentAfter(
+                        srid, assignmentId, position.createdAt(), position.id(), CursorUtils.window(pageSize));
+        
+        // The page query already filters on the assignment; only an empty page needs the existence check
+        if (tasks.isEmpty()) {
+            requireAssignmentKey(srid, assignmentId);
+        }
+        
+        return CursorUtils.toPage(tasks, pageSize, Task::getCreatedAt, Task::getId)
+                .map(TaskDto::fromEntity);
+    }
+
+    @Transactional(readOnly = true)
+    public TaskDto getTask(String srid, String assignmentId, String taskId) {
+        Task task = requireTask(srid, assignmentId, taskId);
+        
+        return TaskDto.fromEntity(task);
+    }
+
+    @Transactional
+    public TaskDto createTask(String srid, String assignmentId, TaskDto taskDto) {
+        String assignmentKey = requireAssignmentKey(srid, assignmentId);
+        
+        if (taskRepository.existsByTaskIdAndAssignmentId(taskDto.getTaskId(), assignmentKey)) {
+            throw new IllegalArgumentException("Task with id " + taskDto.getTaskId() + " already exists in assignment " + assignmentId);
+        }
+        
+        Task task = TaskDto.toEntity(taskDto);
+        // Attach through a reference so neither the assignment nor its task collection is loaded
+        task.setAssignment(assignmentRepository.getReferenceById(assignmentKey));
+        
+        Task savedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(IspwChangeEvent.of(ChangeType.CREATED, srid, assignmentId, savedTask));
+        return TaskDto.fromEntity(savedTask);
+    }
+
+    @Transactional
+    public TaskDto updateTask(String srid, String assignmentId, String taskId, TaskDto taskDto) {
+        Task existingTask = requireTask(srid, assignmentId, taskId);
+        
+        // Update fields from DTO
+        if (TaskDto.updateEntity(taskDto, existingTask)) {
+            eventPublisher.publishEvent(IspwChangeEvent.of(ChangeType.UPDATED, srid, assignmentId, existingTask));
+        }
+        
+        Task updatedTask = taskRepository.save(existingTask);
+        return TaskDto.fromEntity(updatedTask);
+    }
+
+    /**
+     * Creates or updates many tasks of an assignment in one transaction.
+     *
+     * <p>Existing tasks are found with a single IN query on their task IDs; new tasks are inserted
+     * through JDBC batching. The controller rejects the whole request if an item fails validation (e.g. a
+     * blank task ID); {@code null} items and items repeating a task ID already seen in the request are
+     * rejected individually without failing the rest of the batch.</p>
+     *
+     * @throws ResourceNotFoundException if the assignment does not exist
+     * @throws BusinessException if the batch is empty or larger than {@link #MAX_BATCH_SIZE}
+     */
+    @Transactional
+    public TaskBatchResponse upsertTasks(String srid, String assignmentId, List<TaskDto> taskDtos) {
+        if (taskDtos == null || taskDtos.isEmpty()) {
+            throw new BusinessException("Batch must contain at least one task");
+        }
+        if (taskDtos.size() > MAX_BATCH_SIZE) {
+            throw new BusinessException("Batch must not contain more than " + MAX_BATCH_SIZE + " tasks");
+        }
+        
+        Assignment assignment = assignmentRepository.getReferenceById(requireAssignmentKey(srid, assignmentId));
+        
+        List<TaskBatchResult> results = new ArrayList<>(taskDtos.size());
+        Set<String> seenTaskIds = new HashSet<>();
+        for (int i = 0; i < taskDtos.size(); i++) {
+            TaskDto taskDto = taskDtos.get(i);
+            String taskId = taskDto == null ? null : taskDto.getTaskId();
+            TaskBatchResult.TaskBatchResultBuilder result = TaskBatchResult.builder()
+                    .index(i)
+                    .taskId(taskId);
+            if (taskId == null || taskId.isBlank()) {
+                result.outcome(TaskBatchResult.Outcome.REJECTED).message("Task id is required");
+            } else if (!seenTaskIds.add(taskId)) {
+                result.outcome(TaskBatchResult.Outcome.REJECTED).message("Duplicate task id in batch: " + taskId);
+            }
+            results.add(result.build());
+        }
+        
+        Map<String, Task> existingTasks = seenTaskIds.isEmpty()
+                ? Map.of()
+                : taskRepository.findByAssignmentAndTaskIdIn(assignment, seenTaskIds).stream()
+                        .collect(Collectors.toMap(Task::getTaskId, Function.identity(), (first, second) -> first));
+        
+        Map<Integer, Task> touchedTasks = new HashMap<>();
+        List<Task> newTasks = new ArrayList<>();
+        for (TaskBatchResult result : results) {
+            if (result.getOutcome() == TaskBatchResult.Outcome.REJECTED) {
+                continue;
+            }
+            TaskDto taskDto = taskDtos.get(result.getIndex());
+            Task task = existingTasks.get(result.getTaskId());
+            if (task != null) {
+                if (TaskDto.updateEntity(taskDto, task)) {
+                    eventPublisher.publishEvent(IspwChangeEvent.of(ChangeType.UPDATED, srid, assignmentId, task));
+                }
+                result.setOutcome(TaskBatchResult.Outcome.UPDATED);
+            } else {
+                task = TaskDto.toEntity(taskDto);
+                task.setId(null);
+                task.setAssignment(assignment);
+                newTasks.add(task);
+                result.setOutcome(TaskBatchResult.Outcome.CREATED);
+            }
+            touchedTasks.put(result.getIndex(), task);
+        }
+        
+        taskRepository.saveAll(newTasks);
+        taskRepository.flush();
+        newTasks.forEach(task ->
+                eventPublisher.publishEvent(IspwChangeEvent.of(ChangeType.CREATED, srid, assignmentId, task)));
+        
+        touchedTasks.forEach((index, task) -> results.get(index).setTask(TaskDto.fromEntity(task)));
+        
+        return TaskBatchResponse.builder()
+                .created(countOutcome(results, TaskBatchResult.Outcome.CREATED))
+                .updated(countOutcome(results, TaskBatchResult.Outcome.UPDATED))
+                .rejected(countOutcome(results, TaskBatchResult.Outcome.REJECTED))
+                .results(results)
+                .build();
+    }
+
+    private Task requireTask(String srid, String assignmentId, String taskId) {
+        TaskRepository.AssignmentTask lookup = taskRepository.findAssignmentTask(srid, assignmentId, taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Assignment not found with id: " + assignmentId));
+        if (lookup.getTask() == null) {
+            throw new ResourceNotFoundException("Task not found with id: " + taskId);
+        }
+        return lookup.getTask();
+    }
+
+    private String requireAssignmentKey(String srid, String assignmentId) {
+        return parentLookupService.findAssignmentKey(srid, assignmentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Assignment not found with id: " + assignmentId));
+    }
+
+    private static int countOutcome(List<TaskBatchResult> results, TaskBatchResult.Outcome outcome) {
+        return (int) results.stream()
+                .filter(result -> result.getOutcome() == outcome)
+                .count();
+    }
+
+    @Transactional
+    public void deleteTask(String srid, String assignmentId, String taskId) {
+        Task task = requireTask(srid, assignmentId, taskId);
+        
+        taskRepository.delete(task);
+        eventPublisher.publishEvent(IspwChangeEvent.of(ChangeType.DELETED, srid, assignmentId, task));
+    }
+}
@@ -0,0 +1,106 @@
+package com.codepipeline.mcp.util;
+
+import com.codepipeline.mcp.dto.CursorPage;
+import com.codepipeline.mcp.exception.BusinessException;
+import org.springframework.data.domain.Limit;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Helpers for keyset pagination over {@code (createdAt, id)}.
+ *
+ * <p>Cursors are Base64url-encoded so clients treat them as opaque tokens. A page query
+ * fetches one row more than requested to find out whether another page exists.</p>
+ */
+public final class CursorUtils {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    private static final String SEPARATOR = "|";
+
+    private CursorUtils() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Position of the last row returned on a page.
+     */
+    public record Cursor(LocalDateTime createdAt, String id) {}
+
+    public static String encode(LocalDateTime createdAt, String id) {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor previously produced by {@link #encode}.
+     *
+     * @param cursor the opaque cursor, may be {@code null} or blank for the first page
+     * @return the decoded cursor, or {@code null} for the first page
+     * @throws BusinessException if the cursor is malformed or its id is not a UUID
+     */
+    public static Cursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator <= 0 || separator == raw.length() - 1) {
+                throw new BusinessException("Invalid pagination cursor");
+            }
+            String id = raw.substring(separator + 1);
+            // Every paged table keys on a UUID column, which the driver rejects in any other form
+            if (!UuidUtils.isUuid(id)) {
+                throw new BusinessException("Invalid pagination cursor");
+            }
+            return new Cursor(LocalDateTime.parse(raw.substring(0, separator)), id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException("Invalid pagination cursor", e);
+        }
+    }
+
+    /**
+     * Validates the requested page size and caps it at {@link #MAX_LIMIT}.
+     *
+     * @throws BusinessException if the limit is less than one
+     */
+    public static int normalizeLimit(int limit) {
+        if (limit < 1) {
+            throw new BusinessException("Limit must be at least 1");
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    /**
+     * Returns the query limit for a page: one more row than the page size.
+     */
+    public static Limit window(int limit) {
+        return Limit.of(limit + 1);
+    }
+
+    /**
+     * Builds a page from rows fetched with {@link #window(int)}.
+     */
+    public static <T> CursorPage<T> toPage(List<T> rows, int limit,
+                                           Function<T, LocalDateTime> createdAt, Function<T, String> id) {
+        boolean hasMore = rows.size() > limit;
+        List<T> items = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            T last = items.get(items.size() - 1);
+            nextCursor = encode(createdAt.apply(last), id.apply(last));
+        }
+        return CursorPage.<T>builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
+}
@@ -0,0 +1,100 @@
+package com.codepipeline.mcp.util;
+
+import com.codepipeline.mcp.dto.CursorPage;
+import com.codepipeline.mcp.exception.BusinessException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Parses the {@code fields} and {@code include} parameters of list endpoints: comma-separated subsets of
+ * the fields a projection query may select and of the child collections a page may embed.
+ */
+public final class FieldSelection {
+
+    private static final TypeReference<LinkedHashMap<String, Object>> JSON_OBJECT = new TypeReference<>() {};
+
+    private FieldSelection() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Resolves the fields to select, in the order of {@code selectable}.
+     *
+     * @param fields the requested fields, or {@code null}/blank for all of them
+     * @param selectable every field that may be requested
+     * @param required fields selected whether requested or not (e.g. the keyset columns)
+     * @throws BusinessException if a requested field is not selectable
+     */
+    public static List<String> resolve(String fields, Collection<String> selectable, Collection<String> required) {
+        if (fields == null || fields.isBlank()) {
+            return List.copyOf(selectable);
+        }
+        Set<String> requested = new HashSet<>(required);
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!selectable.contains(name)) {
+                throw new BusinessException("Unknown field: " + name);
+            }
+            requested.add(name);
+        }
+        return selectable.stream()
+                .filter(requested::contains)
+                .toList();
+    }
+
+    /**
+     * Returns whether a {@code fields} parameter asks for a subset of the fields.
+     */
+    public static boolean isSparse(String fields) {
+        return fields != null && !fields.isBlank();
+    }
+
+    /**
+     * Converts the items of a page requested with {@code fields} to JSON objects that leave out the
+     * {@code null} fields, so the fields that were not selected do not appear. Pages without
+     * {@code fields} are returned as they are and keep their {@code null} fields.
+     */
+    public static CursorPage<Map<String, Object>> withoutNulls(CursorPage<?> page, ObjectMapper objectMapper) {
+        return page.map(item -> {
+            LinkedHashMap<String, Object> json = objectMapper.convertValue(item, JSON_OBJECT);
+            json.values().removeIf(Objects::isNull);
+            return json;
+        });
+    }
+
+    /**
+     * Resolves the child collections to embed in a list page.
+     *
+     * @param include the requested collections, or {@code null}/blank for none
+     * @param includable every collection that may be requested
+     * @throws BusinessException if a requested collection is not includable
+     */
+    public static Set<String> includes(String include, Collection<String> includable) {
+        if (include == null || include.isBlank()) {
+            return Set.of();
+        }
+        Set<String> requested = new HashSet<>();
+        for (String field : include.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!includable.contains(name)) {
+                throw new BusinessException("Unknown include: " + name);
+            }
+            requested.add(name);
+        }
+        return requested;
+    }
+}
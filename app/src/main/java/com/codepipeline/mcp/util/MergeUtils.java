@@ -0,0 +1,115 @@
+package com.codepipeline.mcp.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Helpers for reconciling a managed child collection with an incoming list of DTOs by business key,
+ * so that only rows which actually changed are written.
+ */
+public final class MergeUtils {
+
+    private MergeUtils() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Number of child rows inserted, updated and deleted by a merge.
+     */
+    public record MergeResult(int inserted, int updated, int deleted) {
+
+        public int rowsWritten() {
+            return inserted + updated + deleted;
+        }
+    }
+
+    /**
+     * Merges {@code incoming} into {@code existing}, matching elements by key.
+     *
+     * <ul>
+     *   <li>matched elements are passed to {@code updater}, which returns whether anything changed</li>
+     *   <li>unmatched incoming elements are created and passed to {@code adder}</li>
+     *   <li>existing elements absent from {@code incoming} are passed to {@code remover}</li>
+     * </ul>
+     *
+     * <p>Incoming elements with a {@code null} key are always treated as new. When an incoming key repeats,
+     * later elements update the entity matched or created for the first one; when an existing key repeats,
+     * the extra entities are removed.</p>
+     */
+    public static <E, D, K> MergeResult mergeByKey(Collection<E> existing,
+                                                   Collection<D> incoming,
+                                                   Function<E, K> entityKey,
+                                                   Function<D, K> dtoKey,
+                                                   BiPredicate<D, E> updater,
+                                                   Function<D, E> creator,
+                                                   Consumer<E> adder,
+                                                   Consumer<E> remover) {
+        Map<K, E> unmatched = new LinkedHashMap<>();
+        List<E> redundant = new ArrayList<>();
+        for (E entity : existing) {
+            if (unmatched.putIfAbsent(entityKey.apply(entity), entity) != null) {
+                redundant.add(entity);
+            }
+        }
+
+        Map<K, E> merged = new HashMap<>();
+        Set<E> created = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<E> updated = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        for (D dto : incoming) {
+            K key = dtoKey.apply(dto);
+            E entity = null;
+            if (key != null) {
+                entity = merged.containsKey(key) ? merged.get(key) : unmatched.remove(key);
+            }
+
+            if (entity == null) {
+                entity = creator.apply(dto);
+                adder.accept(entity);
+                created.add(entity);
+            } else if (updater.test(dto, entity) && !created.contains(entity)) {
+                updated.add(entity);
+            }
+
+            if (key != null) {
+                merged.put(key, entity);
+            }
+        }
+
+        int deleted = 0;
+        for (E entity : unmatched.values()) {
+            remover.accept(entity);
+            deleted++;
+        }
+        for (E entity : redundant) {
+            remover.accept(entity);
+            deleted++;
+        }
+
+        return new MergeResult(created.size(), updated.size(), deleted);
+    }
+
+    /**
+     * Sets a property only when the new value differs from the current one.
+     *
+     * @return {@code true} if the property was changed
+     */
+    public static <T> boolean setIfChanged(T current, T value, Consumer<T> setter) {
+        if (Objects.equals(current, value)) {
+            return false;
+        }
+        setter.accept(value);
+        return true;
+    }
+}
@@ -0,0 +1,31 @@
+package com.codepipeline.mcp.util;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates thread factories for the application's own worker pools.
+ */
+public final class ThreadFactoryUtils {
+
+    private ThreadFactoryUtils() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Returns a factory for virtual threads named {@code prefix0}, {@code prefix1}, ..., or
+     * {@code null} if the JVM does not support virtual threads.
+     *
+     * <p>Looks up {@code Thread.ofVirtual().name(prefix, 0).factory()} reflectively so the application
+     * still compiles and runs on JDK 17.</p>
+     */
+    public static ThreadFactory virtualThreadFactory(String prefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.codepipeline.mcp.util;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Generates time-ordered version 7 UUIDs (RFC 9562).
+ *
+ * <p>The first 48 bits hold the Unix time in milliseconds, so identifiers generated later sort after
+ * earlier ones, both as 128-bit values and in their canonical string form. New rows are therefore
+ * appended to the right-hand edge of primary key indexes instead of being scattered across them as
+ * with random (version 4) UUIDs.</p>
+ */
+public final class UuidUtils {
+
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_RFC_4122 = 0x8000_0000_0000_0000L;
+    private static final Pattern CANONICAL_FORM =
+            Pattern.compile("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+
+    private UuidUtils() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static UUID timeOrdered() {
+        return timeOrdered(System.currentTimeMillis());
+    }
+
+    public static UUID timeOrdered(long epochMillis) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSigBits = (epochMillis << 16) | VERSION_7 | (random.nextLong() & 0x0FFFL);
+        long leastSigBits = VARIANT_RFC_4122 | (random.nextLong() >>> 2);
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * Returns whether the value is a UUID in canonical 8-4-4-4-12 hex form.
+     */
+    public static boolean isUuid(String value) {
+        return value != null && CANONICAL_FORM.matcher(value).matches();
+    }
+}
@@ -0,0 +1,53 @@
+package com.codepipeline.mcp.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caps the number of concurrent WebSocket sessions, closing sessions beyond the limit before they
+ * reach the STOMP handler so that they never allocate send buffers or broker subscriptions.
+ */
+@Slf4j
+public class SessionLimitHandlerDecorator extends WebSocketHandlerDecorator {
+
+    private final int maxSessions;
+    private final AtomicInteger sessionCount = new AtomicInteger();
+    private final Set<String> acceptedSessionIds = ConcurrentHashMap.newKeySet();
+
+    public SessionLimitHandlerDecorator(WebSocketHandler delegate, int maxSessions) {
+        super(delegate);
+        this.maxSessions = maxSessions;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        if (sessionCount.incrementAndGet() > maxSessions) {
+            sessionCount.decrementAndGet();
+            log.warn("Rejecting WebSocket session {}: limit of {} sessions reached", session.getId(), maxSessions);
+            session.close(CloseStatus.SERVICE_OVERLOAD);
+            return;
+        }
+        acceptedSessionIds.add(session.getId());
+        super.afterConnectionEstablished(session);
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+        // Rejected sessions were never counted nor seen by the delegate
+        if (acceptedSessionIds.remove(session.getId())) {
+            sessionCount.decrementAndGet();
+            super.afterConnectionClosed(session, closeStatus);
+        }
+    }
+
+    public int getSessionCount() {
+        return sessionCount.get();
+    }
+}
@@ -0,0 +1,86 @@
+package com.codepipeline.mcp.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.security.Principal;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Restricts the per-SRID change event topics ({@code /topic/ispw/{srid}/...}) to clients allowed to
+ * see that SRID.
+ *
+ * <p>A client may subscribe if its JWT lists the SRID, or {@code *}, in the configured claim, or if it
+ * has {@code ROLE_ADMIN}. Clients may never send to these topics; only the change event relay does.</p>
+ *
+ * <p>The simple broker matches subscriptions as Ant patterns, so {@code /topic/**} would receive every
+ * SRID's events. Subscriptions under {@code /topic} that contain a pattern character are rejected.</p>
+ */
+@Slf4j
+public class SridSubscriptionInterceptor implements ChannelInterceptor {
+
+    private static final Pattern SRID_TOPIC = Pattern.compile("^/topic/ispw/([^/]+)(/.*)?$");
+    private static final String TOPIC_PREFIX = "/topic/";
+    private static final Pattern DESTINATION_PATTERN = Pattern.compile("[*?{]");
+    private static final String ALL_SRIDS = "*";
+    private static final String ADMIN_ROLE = "ROLE_ADMIN";
+
+    private final String sridClaim;
+
+    public SridSubscriptionInterceptor(String sridClaim) {
+        this.sridClaim = sridClaim;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getDestination() == null) {
+            return message;
+        }
+        
+        String destination = accessor.getDestination();
+        if (StompCommand.SUBSCRIBE.equals(accessor.getCommand()) && destination.startsWith(TOPIC_PREFIX)
+                && DESTINATION_PATTERN.matcher(destination).find()) {
+            throw new AccessDeniedException("Cannot subscribe to a destination pattern: " + destination);
+        }
+        
+        Matcher matcher = SRID_TOPIC.matcher(destination);
+        if (!matcher.matches()) {
+            return message;
+        }
+        
+        if (StompCommand.SEND.equals(accessor.getCommand())) {
+            throw new AccessDeniedException("Clients cannot send to " + destination);
+        }
+        Principal user = accessor.getUser();
+        if (StompCommand.SUBSCRIBE.equals(accessor.getCommand()) && !canAccess(user, matcher.group(1))) {
+            log.warn("Denied subscription of {} to {}", user != null ? user.getName() : "anonymous", destination);
+            throw new AccessDeniedException("Not authorized for SRID " + matcher.group(1));
+        }
+        return message;
+    }
+
+    private boolean canAccess(Principal user, String srid) {
+        if (!(user instanceof Authentication auth) || !auth.isAuthenticated()) {
+            return false;
+        }
+        if (auth.getAuthorities().stream().anyMatch(authority -> ADMIN_ROLE.equals(authority.getAuthority()))) {
+            return true;
+        }
+        if (auth.getPrincipal() instanceof Jwt jwt) {
+            List<String> srids = jwt.getClaimAsStringList(sridClaim);
+            return srids != null && (srids.contains(srid) || srids.contains(ALL_SRIDS));
+        }
+        return false;
+    }
+}
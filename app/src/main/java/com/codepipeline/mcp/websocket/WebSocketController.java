@@ -1,8 +1,11 @@
 package com.codepipeline.mcp.websocket;
 
+import com.codepipeline.mcp.dto.PresenceSnapshotDto;
+import com.codepipeline.mcp.service.PresenceService;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.SendTo;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Controller;
@@ -15,6 +18,13 @@ import lombok.extern.slf4j.Slf4j;
 public class WebSocketController {
 
     private final SimpMessagingTemplate messagingTemplate;
+    private final PresenceService presenceService;
+
+    // Subscribing to /app/presence returns the users online; /topic/presence then delivers the changes
+    @SubscribeMapping("/presence")
+    public PresenceSnapshotDto presence() {
+        return presenceService.getSnapshot();
+    }
 
     @MessageMapping("/hello")
     @SendTo("/topic/greetings")
@@ -1,9 +1,9 @@
 package com.codepipeline.mcp.websocket;
 
+import com.codepipeline.mcp.service.PresenceService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.jwt.Jwt;
@@ -16,47 +16,33 @@ import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 @RequiredArgsConstructor
 public class WebSocketEventListener {
 
-    private final SimpMessageSendingOperations messagingTemplate;
+    private final PresenceService presenceService;
 
     @EventListener
     public void handleWebSocketConnectListener(SessionConnectedEvent event) {
         StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
         String username = getUsernameFromHeader(headerAccessor);
         
-        log.info("User connected: {}", username);
+        log.debug("User connected: {}", username);
         
-        // Notify all clients about the new user
-        WebSocketController.Notification notification = new WebSocketController.Notification(
-            "SYSTEM",
-            String.format("User %s joined the chat", username)
-        );
-        
-        messagingTemplate.convertAndSend("/topic/notifications", notification);
+        // Clients are told about the new user with the next presence digest
+        presenceService.connected(headerAccessor.getSessionId(), username);
     }
 
     @EventListener
     public void handleWebSocketDisconnectListener(SessionDisconnectEvent event) {
-        StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
-        String username = getUsernameFromHeader(headerAccessor);
+        log.debug("Session disconnected: {}", event.getSessionId());
         
-        if (username != null) {
-            log.info("User disconnected: {}", username);
-            
-            // Notify all clients about the user leaving
-            WebSocketController.Notification notification = new WebSocketController.Notification(
-                "SYSTEM",
-                String.format("User %s left the chat", username)
-            );
-            
-            messagingTemplate.convertAndSend("/topic/notifications", notification);
-        }
+        // Clients are told about the user leaving with the next presence digest
+        presenceService.disconnected(event.getSessionId());
     }
     
     private String getUsernameFromHeader(StompHeaderAccessor headerAccessor) {
         Authentication auth = (Authentication) headerAccessor.getUser();
         if (auth != null && auth.getPrincipal() instanceof Jwt) {
             Jwt jwt = (Jwt) auth.getPrincipal();
-            return jwt.getClaimAsString("preferred_username");
+            String username = jwt.getClaimAsString("preferred_username");
+            return username != null ? username : "anonymous";
         }
         return "anonymous";
     }
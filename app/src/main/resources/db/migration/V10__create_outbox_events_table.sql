@@ -0,0 +1,17 @@
+-- V10__create_outbox_events_table.sql
+-- Transactional outbox of ISPW change events, written with each change and drained to STOMP topics after commit
+
+-- One id per event (allocationSize = 1): blocks cached per instance would let ids from different replicas
+-- stop following insertion order, and the relay could publish a stale status last
+CREATE SEQUENCE outbox_events_seq START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE outbox_events (
+    id BIGINT PRIMARY KEY,
+    srid VARCHAR(255) NOT NULL,
+    topic VARCHAR(20) NOT NULL,
+    change_type VARCHAR(20) NOT NULL,
+    resource_id VARCHAR(255) NOT NULL,
+    parent_id VARCHAR(255),
+    status VARCHAR(32),
+    created_at TIMESTAMP
+);
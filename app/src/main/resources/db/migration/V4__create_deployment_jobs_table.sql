@@ -0,0 +1,33 @@
+-- V4__create_deployment_jobs_table.sql
+-- Persisted queue of release and release set deployments executed by the deployment worker pool
+
+CREATE TABLE deployment_jobs (
+    id VARCHAR(255) PRIMARY KEY,
+    srid VARCHAR(255) NOT NULL,
+    target_type VARCHAR(20) NOT NULL,
+    target_id VARCHAR(255) NOT NULL,
+    level VARCHAR(255),
+    environment VARCHAR(255),
+    description VARCHAR(255),
+    runtime_configuration VARCHAR(255),
+    requested_by VARCHAR(255),
+    status VARCHAR(20) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    error_message VARCHAR(2000),
+    started_at TIMESTAMP,
+    completed_at TIMESTAMP,
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP,
+    -- srid:target_type:target_id while the job is queued or running, NULL once it finished
+    active_target VARCHAR(600),
+    CONSTRAINT uk_deployment_jobs_active_target UNIQUE (active_target)
+);
+
+-- Sweeper scans queued jobs oldest first
+CREATE INDEX idx_deployment_jobs_status_created_at ON deployment_jobs (status, created_at);
+
+-- Sweeper scans running jobs by their start time
+CREATE INDEX idx_deployment_jobs_status_updated_at ON deployment_jobs (status, updated_at);
+
+-- Lookup of the active job for a target when a deployment is requested
+CREATE INDEX idx_deployment_jobs_target ON deployment_jobs (srid, target_type, target_id);
@@ -0,0 +1,22 @@
+-- V5__create_packages_table.sql
+-- ISPW packages; read far more often than written (clients poll package status)
+
+CREATE TABLE packages (
+    id VARCHAR(255) PRIMARY KEY,
+    package_id VARCHAR(255) NOT NULL,
+    srid VARCHAR(255) NOT NULL,
+    description VARCHAR(255),
+    owner VARCHAR(255),
+    application VARCHAR(255),
+    status VARCHAR(255),
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP,
+    version BIGINT,
+    CONSTRAINT uq_packages_srid_package_id UNIQUE (srid, package_id)
+);
+
+-- Status-filtered list pages: equality on (srid, status), then keyset order
+CREATE INDEX idx_packages_srid_status_created_at ON packages (srid, status, created_at, id);
+
+-- Unfiltered list pages in keyset order
+CREATE INDEX idx_packages_srid_created_at ON packages (srid, created_at, id);
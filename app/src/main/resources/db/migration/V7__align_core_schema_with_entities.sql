@@ -0,0 +1,117 @@
+-- V7__align_core_schema_with_entities.sql
+-- Brings assignments in line with the Assignment entity, creates the tables that were only ever created by hand
+-- (tasks, releases, release_sets), adds the missing messages.version column and indexes every repository finder.
+-- IF [NOT] EXISTS keeps the script safe on databases where some of these objects were created manually.
+
+-- Assignments: V1 was written for an older model (title, description, due_date)
+ALTER TABLE assignments ADD COLUMN IF NOT EXISTS assignment_id VARCHAR(255);
+ALTER TABLE assignments ADD COLUMN IF NOT EXISTS srid VARCHAR(255);
+ALTER TABLE assignments ADD COLUMN IF NOT EXISTS stream VARCHAR(255);
+ALTER TABLE assignments ADD COLUMN IF NOT EXISTS release_id VARCHAR(255);
+ALTER TABLE assignments ADD COLUMN IF NOT EXISTS setid VARCHAR(255);
+ALTER TABLE assignments ADD COLUMN IF NOT EXISTS level VARCHAR(255);
+ALTER TABLE assignments ALTER COLUMN status SET DATA TYPE VARCHAR(255);
+
+-- Rows written before assignment_id/srid existed get their primary key as business id
+UPDATE assignments SET assignment_id = id WHERE assignment_id IS NULL;
+UPDATE assignments SET srid = 'UNKNOWN' WHERE srid IS NULL;
+ALTER TABLE assignments ALTER COLUMN assignment_id SET NOT NULL;
+ALTER TABLE assignments ALTER COLUMN srid SET NOT NULL;
+
+ALTER TABLE assignments DROP COLUMN IF EXISTS title;
+ALTER TABLE assignments DROP COLUMN IF EXISTS description;
+ALTER TABLE assignments DROP COLUMN IF EXISTS due_date;
+
+CREATE TABLE IF NOT EXISTS tasks (
+    id VARCHAR(255) PRIMARY KEY,
+    task_id VARCHAR(255) NOT NULL,
+    assignment_id VARCHAR(255),
+    type VARCHAR(255),
+    status VARCHAR(255),
+    component_type VARCHAR(255),
+    component_name VARCHAR(255),
+    component_extension VARCHAR(255),
+    component_version VARCHAR(255),
+    component_last_action VARCHAR(255),
+    component_last_action_date_time VARCHAR(255),
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS releases (
+    id VARCHAR(255) PRIMARY KEY,
+    release_id VARCHAR(255) NOT NULL,
+    srid VARCHAR(255) NOT NULL,
+    application VARCHAR(255),
+    stream VARCHAR(255),
+    owner VARCHAR(255),
+    status VARCHAR(255),
+    description VARCHAR(255),
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS release_sets (
+    id VARCHAR(255) PRIMARY KEY,
+    set_id VARCHAR(255) NOT NULL,
+    release_id VARCHAR(255),
+    status VARCHAR(255),
+    owner VARCHAR(255),
+    description VARCHAR(255),
+    deployed_by VARCHAR(255),
+    deployed_at TIMESTAMP,
+    deployment_status VARCHAR(255),
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP
+);
+
+-- Messages use optimistic locking
+ALTER TABLE messages ADD COLUMN IF NOT EXISTS version BIGINT;
+
+-- Keyset pages order by (created_at, id) and build their cursors from both, so created_at may not be NULL.
+-- Rows from before @CreationTimestamp get their last update time, or the migration time if they have none.
+UPDATE assignments SET created_at = COALESCE(updated_at, CURRENT_TIMESTAMP) WHERE created_at IS NULL;
+ALTER TABLE assignments ALTER COLUMN created_at SET DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE assignments ALTER COLUMN created_at SET NOT NULL;
+UPDATE tasks SET created_at = COALESCE(updated_at, CURRENT_TIMESTAMP) WHERE created_at IS NULL;
+ALTER TABLE tasks ALTER COLUMN created_at SET DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE tasks ALTER COLUMN created_at SET NOT NULL;
+UPDATE releases SET created_at = COALESCE(updated_at, CURRENT_TIMESTAMP) WHERE created_at IS NULL;
+ALTER TABLE releases ALTER COLUMN created_at SET DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE releases ALTER COLUMN created_at SET NOT NULL;
+UPDATE release_sets SET created_at = COALESCE(updated_at, CURRENT_TIMESTAMP) WHERE created_at IS NULL;
+ALTER TABLE release_sets ALTER COLUMN created_at SET DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE release_sets ALTER COLUMN created_at SET NOT NULL;
+UPDATE packages SET created_at = COALESCE(updated_at, CURRENT_TIMESTAMP) WHERE created_at IS NULL;
+ALTER TABLE packages ALTER COLUMN created_at SET DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE packages ALTER COLUMN created_at SET NOT NULL;
+
+-- Business keys: point lookups by (assignmentId | releaseId | setId [, srid])
+CREATE UNIQUE INDEX IF NOT EXISTS uq_assignments_assignment_id ON assignments (assignment_id);
+CREATE UNIQUE INDEX IF NOT EXISTS uq_releases_release_id ON releases (release_id);
+CREATE UNIQUE INDEX IF NOT EXISTS uq_release_sets_set_id ON release_sets (set_id);
+
+-- Filtered list pages: equality on (srid, application, status)
+CREATE INDEX IF NOT EXISTS idx_assignments_srid_application_status ON assignments (srid, application, status);
+CREATE INDEX IF NOT EXISTS idx_releases_srid_application_status ON releases (srid, application, status);
+
+-- Unfiltered list pages and exports in keyset order
+CREATE INDEX IF NOT EXISTS idx_assignments_srid_created_at ON assignments (srid, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_releases_srid_created_at ON releases (srid, created_at, id);
+
+-- Child lookups by parent and business id (also serves the foreign key joins and deletes)
+CREATE INDEX IF NOT EXISTS idx_tasks_assignment_id_task_id ON tasks (assignment_id, task_id);
+CREATE INDEX IF NOT EXISTS idx_release_sets_release_id_set_id ON release_sets (release_id, set_id);
+
+-- Task pages of one assignment in keyset order
+CREATE INDEX IF NOT EXISTS idx_tasks_assignment_id_created_at ON tasks (assignment_id, created_at, id);
+
+-- Messages by sender
+CREATE INDEX IF NOT EXISTS idx_messages_sender ON messages (sender);
+
+-- Foreign keys last, so that databases which index foreign keys implicitly (H2) reuse the indexes above.
+-- PostgreSQL has no ADD CONSTRAINT IF NOT EXISTS, so a manually created constraint is dropped and re-added instead.
+ALTER TABLE tasks DROP CONSTRAINT IF EXISTS fk_tasks_assignment;
+ALTER TABLE release_sets DROP CONSTRAINT IF EXISTS fk_release_sets_release;
+ALTER TABLE tasks ADD CONSTRAINT fk_tasks_assignment FOREIGN KEY (assignment_id) REFERENCES assignments (id);
+ALTER TABLE release_sets ADD CONSTRAINT fk_release_sets_release FOREIGN KEY (release_id) REFERENCES releases (id);
@@ -0,0 +1,128 @@
+package com.codepipeline.mcp.client;
+
+import com.codepipeline.mcp.config.IspwClientProperties;
+import com.codepipeline.mcp.dto.GenerateRequest;
+import com.codepipeline.mcp.dto.IspwOperationResponse;
+import com.codepipeline.mcp.dto.PromoteRequest;
+import com.codepipeline.mcp.exception.IspwClientException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("HTTP ISPW Client Tests")
+class HttpIspwClientTest {
+
+    private IspwStubServer stubServer;
+    private IspwClientProperties properties;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stubServer = new IspwStubServer();
+        properties = new IspwClientProperties();
+        properties.setMode(IspwClientProperties.Mode.HTTP);
+        properties.setBaseUrl(stubServer.baseUrl());
+        properties.setToken("pat-123");
+        properties.setRequestTimeout(Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.close();
+    }
+
+    @Test
+    @DisplayName("should post the operation with the bearer token and read the response")
+    void shouldPostGenerateRequest() {
+        IspwOperationResponse response = client().generate("SRID 1", "ASSIGN-1",
+                GenerateRequest.builder().level("DEV1").build()).join();
+
+        assertThat(response.getStatus()).isEqualTo(IspwOperationResponse.Status.STARTED);
+        assertThat(response.getStartTime()).isNotNull();
+        IspwStubServer.RecordedRequest request = stubServer.requests().get(0);
+        assertThat(request.method()).isEqualTo("POST");
+        assertThat(request.path()).isEqualTo("/ispw/SRID%201/assignments/ASSIGN-1/generate");
+        assertThat(request.authorization()).isEqualTo("Bearer pat-123");
+        assertThat(request.body()).contains("\"level\":\"DEV1\"");
+    }
+
+    @Test
+    @DisplayName("should fail with a bad gateway error on an error status")
+    void shouldTranslateErrorStatus() {
+        stubServer.respondWithStatus(503);
+
+        CompletableFuture<IspwOperationResponse> call = client().promote("SRID1", "ASSIGN-1", new PromoteRequest());
+
+        assertThatThrownBy(call::join)
+                .isInstanceOf(CompletionException.class)
+                .cause()
+                .isInstanceOfSatisfying(IspwClientException.class,
+                        e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.BAD_GATEWAY));
+    }
+
+    @Test
+    @DisplayName("should fail with a gateway timeout when CES does not answer in time")
+    void shouldTimeOutSlowRequests() {
+        properties.setRequestTimeout(Duration.ofMillis(200));
+        stubServer.respondAfter(Duration.ofSeconds(2));
+
+        CompletableFuture<IspwOperationResponse> call = client().generate("SRID1", "ASSIGN-1", new GenerateRequest());
+
+        assertThatThrownBy(call::join)
+                .cause()
+                .isInstanceOfSatisfying(IspwClientException.class,
+                        e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT));
+    }
+
+    @Test
+    @DisplayName("should never exceed the configured number of concurrent requests")
+    void shouldBoundConcurrency() {
+        properties.setMaxConcurrentRequests(3);
+        stubServer.respondAfter(Duration.ofMillis(100));
+        HttpIspwClient client = client();
+
+        List<CompletableFuture<IspwOperationResponse>> calls = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            calls.add(client.generate("SRID1", "ASSIGN-" + i, new GenerateRequest()));
+        }
+        CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).join();
+
+        assertThat(stubServer.requests()).hasSize(12);
+        assertThat(stubServer.maxInFlight()).isBetween(2, 3);
+    }
+
+    @Test
+    @DisplayName("should reject requests once the pending queue is full")
+    void shouldRejectWhenPendingQueueIsFull() {
+        properties.setMaxConcurrentRequests(1);
+        properties.setMaxPendingRequests(1);
+        stubServer.respondAfter(Duration.ofMillis(300));
+        HttpIspwClient client = client();
+
+        CompletableFuture<IspwOperationResponse> first = client.generate("SRID1", "ASSIGN-1", new GenerateRequest());
+        CompletableFuture<IspwOperationResponse> second = client.generate("SRID1", "ASSIGN-2", new GenerateRequest());
+        CompletableFuture<IspwOperationResponse> third = client.generate("SRID1", "ASSIGN-3", new GenerateRequest());
+
+        assertThatThrownBy(third::join)
+                .cause()
+                .isInstanceOfSatisfying(IspwClientException.class,
+                        e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+        assertThat(first.join().getStatus()).isEqualTo(IspwOperationResponse.Status.STARTED);
+        assertThat(second.join().getStatus()).isEqualTo(IspwOperationResponse.Status.STARTED);
+    }
+
+    private HttpIspwClient client() {
+        return new HttpIspwClient(properties, Jackson2ObjectMapperBuilder.json().build());
+    }
+}
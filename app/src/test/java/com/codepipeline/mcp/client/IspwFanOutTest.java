@@ -0,0 +1,104 @@
+package com.codepipeline.mcp.client;
+
+import com.codepipeline.mcp.config.IspwClientProperties;
+import com.codepipeline.mcp.dto.GenerateRequest;
+import com.codepipeline.mcp.dto.IspwOperationResponse;
+import com.codepipeline.mcp.dto.PromoteRequest;
+import com.codepipeline.mcp.exception.BusinessException;
+import com.codepipeline.mcp.service.IspwOperationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs {@link IspwOperationService} fan-out against the embedded CES stub.
+ */
+@DisplayName("ISPW Operation Fan-out Tests")
+class IspwFanOutTest {
+
+    private static final Duration CES_LATENCY = Duration.ofMillis(200);
+    private static final int ASSIGNMENT_COUNT = 10;
+
+    private IspwStubServer stubServer;
+    private IspwOperationService ispwOperationService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stubServer = new IspwStubServer();
+        IspwClientProperties properties = new IspwClientProperties();
+        properties.setBaseUrl(stubServer.baseUrl());
+        properties.setMaxConcurrentRequests(ASSIGNMENT_COUNT);
+        ispwOperationService = new IspwOperationService(
+                new HttpIspwClient(properties, Jackson2ObjectMapperBuilder.json().build()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.close();
+    }
+
+    @Test
+    @DisplayName("should send operations for many assignments concurrently")
+    void shouldFanOutConcurrently() {
+        stubServer.respondAfter(CES_LATENCY);
+        List<String> assignmentIds = assignmentIds(ASSIGNMENT_COUNT);
+
+        long start = System.nanoTime();
+        Map<String, IspwOperationResponse> results = ispwOperationService
+                .generateAll("SRID1", assignmentIds, new GenerateRequest())
+                .join();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        assertThat(results).containsOnlyKeys(assignmentIds);
+        assertThat(results.values()).allMatch(r -> r.getStatus() == IspwOperationResponse.Status.STARTED);
+        assertThat(stubServer.maxInFlight()).isGreaterThan(1);
+        // Serial calls would take ASSIGNMENT_COUNT * CES_LATENCY
+        assertThat(elapsed).isLessThan(CES_LATENCY.multipliedBy(ASSIGNMENT_COUNT / 2));
+    }
+
+    @Test
+    @DisplayName("should report a failed assignment without failing the others")
+    void shouldIsolateFailures() {
+        stubServer.failPathsContaining("/ASSIGN-3/");
+
+        Map<String, IspwOperationResponse> results = ispwOperationService
+                .promoteAll("SRID1", assignmentIds(5), new PromoteRequest())
+                .join();
+
+        assertThat(results).hasSize(5);
+        assertThat(results.get("ASSIGN-3").getStatus()).isEqualTo(IspwOperationResponse.Status.FAILED);
+        assertThat(results.get("ASSIGN-3").getMessage()).contains("500");
+        assertThat(results.get("ASSIGN-4").getStatus()).isEqualTo(IspwOperationResponse.Status.STARTED);
+    }
+
+    @Test
+    @DisplayName("should send one request per distinct assignment and reject oversized fan-outs")
+    void shouldValidateTargets() {
+        ispwOperationService.generateAll("SRID1", List.of("ASSIGN-1", "ASSIGN-1"), new GenerateRequest()).join();
+
+        assertThat(stubServer.requests()).hasSize(1);
+        assertThatThrownBy(() -> ispwOperationService.generateAll("SRID1", List.of(), new GenerateRequest()))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> ispwOperationService.generateAll(
+                "SRID1", assignmentIds(IspwOperationService.MAX_FAN_OUT + 1), new GenerateRequest()))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    private static List<String> assignmentIds(int count) {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add("ASSIGN-" + i);
+        }
+        return ids;
+    }
+}
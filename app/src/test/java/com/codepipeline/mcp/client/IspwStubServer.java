@@ -0,0 +1,102 @@
+package com.codepipeline.mcp.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Embedded stand-in for the CES REST API. Answers every POST with an {@code OperationResponse},
+ * optionally after a delay or with an error status, and records the requests and peak concurrency.
+ */
+class IspwStubServer implements AutoCloseable {
+
+    record RecordedRequest(String method, String path, String authorization, String body) {
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final List<RecordedRequest> requests = new CopyOnWriteArrayList<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private volatile Duration delay = Duration.ZERO;
+    private volatile int status = 200;
+    private volatile String failingPath;
+
+    IspwStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    void respondAfter(Duration delay) {
+        this.delay = delay;
+    }
+
+    void respondWithStatus(int status) {
+        this.status = status;
+    }
+
+    void failPathsContaining(String fragment) {
+        this.failingPath = fragment;
+    }
+
+    List<RecordedRequest> requests() {
+        return requests;
+    }
+
+    int maxInFlight() {
+        return maxInFlight.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        try {
+            String path = exchange.getRequestURI().getRawPath();
+            requests.add(new RecordedRequest(
+                    exchange.getRequestMethod(),
+                    path,
+                    exchange.getRequestHeaders().getFirst("Authorization"),
+                    new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8)));
+            if (!delay.isZero()) {
+                Thread.sleep(delay.toMillis());
+            }
+            
+            String fragment = failingPath;
+            int responseStatus = fragment != null && path.contains(fragment) ? 500 : status;
+            byte[] body = ("{\"operationId\":\"op-" + requests.size() + "\",\"status\":\"STARTED\","
+                    + "\"message\":\"accepted\",\"startTime\":\"2024-05-01T10:15:30Z\"}")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(responseStatus, body.length);
+            exchange.getResponseBody().write(body);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
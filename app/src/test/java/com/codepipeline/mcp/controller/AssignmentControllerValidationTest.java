@@ -0,0 +1,78 @@
+package com.codepipeline.mcp.controller;
+
+import com.codepipeline.mcp.service.AssignmentExportService;
+import com.codepipeline.mcp.service.AssignmentService;
+import com.codepipeline.mcp.service.IspwOperationService;
+import com.codepipeline.mcp.service.TaskService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AssignmentController.class)
+@WithMockUser(roles = "USER")
+@DisplayName("Assignment Controller Validation Tests")
+class AssignmentControllerValidationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AssignmentService assignmentService;
+
+    @MockBean
+    private AssignmentExportService assignmentExportService;
+
+    @MockBean
+    private TaskService taskService;
+
+    @MockBean
+    private IspwOperationService ispwOperationService;
+
+    @Test
+    @DisplayName("should reject a task batch with an invalid element and name its index")
+    void shouldRejectInvalidBatchElement() throws Exception {
+        String body = "[{\"taskId\":\"TASK-1\"},{\"taskId\":\" \"},{\"taskId\":\"TASK-3\",\"componentName\":\""
+                + "X".repeat(256) + "\"}]";
+
+        mockMvc.perform(post("/ispw/SRID1/assignments/ASSIGN-1/tasks:batch")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Validation Error"))
+                .andExpect(jsonPath("$.message").value(containsString("[1].taskId: Task ID is required")))
+                .andExpect(jsonPath("$.message").value(
+                        containsString("[2].componentName: Component name must be at most 255 characters")));
+
+        verify(taskService, never()).upsertTasks(anyString(), anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("should reject a promote request with an unknown change type")
+    void shouldRejectUnknownChangeType() throws Exception {
+        mockMvc.perform(post("/ispw/SRID1/assignments/ASSIGN-1/promote")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"level\":\"DEV\",\"changeType\":\"X\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("Change type must be S, I or E")));
+
+        verify(ispwOperationService, never()).promote(anyString(), anyString(), any());
+    }
+}
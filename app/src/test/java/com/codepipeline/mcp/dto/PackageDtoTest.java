@@ -0,0 +1,37 @@
+package com.codepipeline.mcp.dto;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Package DTO Validation Tests")
+class PackageDtoTest {
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Test
+    @DisplayName("should require a package ID on create only")
+    void shouldRequirePackageIdOnCreate() {
+        PackageDto dto = PackageDto.builder().description("Fix payroll").build();
+
+        assertThat(validator.validate(dto, PackageDto.OnCreate.class))
+                .extracting(violation -> violation.getPropertyPath().toString())
+                .containsExactly("packageId");
+        assertThat(validator.validate(dto)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should reject values longer than their columns on create and update")
+    void shouldRejectOverlongValues() {
+        PackageDto dto = PackageDto.builder().packageId("PKG1").owner("x".repeat(256)).build();
+
+        assertThat(validator.validate(dto, PackageDto.OnCreate.class))
+                .extracting(ConstraintViolation::getMessage)
+                .containsExactly("Owner must be at most 255 characters");
+        assertThat(validator.validate(dto)).hasSize(1);
+    }
+}
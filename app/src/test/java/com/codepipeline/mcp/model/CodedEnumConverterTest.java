@@ -0,0 +1,64 @@
+package com.codepipeline.mcp.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Coded Enum Converter Tests")
+class CodedEnumConverterTest {
+
+    private static final Path POSTGRES_V9 =
+            Path.of("src/main/resources/db/vendor/postgresql/V9__store_statuses_as_smallint.sql");
+
+    private final ReleaseStatus.JpaConverter converter = new ReleaseStatus.JpaConverter();
+
+    @Test
+    @DisplayName("should round-trip every constant through its code")
+    void shouldRoundTripCodes() {
+        for (ReleaseStatus status : ReleaseStatus.values()) {
+            assertThat(converter.convertToEntityAttribute(converter.convertToDatabaseColumn(status))).isEqualTo(status);
+        }
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("should reject a code no constant maps to")
+    void shouldRejectUnknownCode() {
+        assertThatThrownBy(() -> converter.convertToEntityAttribute((short) 99))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("ReleaseStatus");
+    }
+
+    @Test
+    @DisplayName("should cover exactly the active statuses with the partial indexes")
+    void shouldMatchPartialIndexPredicates() throws Exception {
+        String sql = Files.readString(POSTGRES_V9);
+
+        assertThat(partialIndexCodes(sql, "assignments")).isEqualTo(codes(AssignmentStatus.ACTIVE));
+        assertThat(partialIndexCodes(sql, "releases")).isEqualTo(codes(ReleaseStatus.ACTIVE));
+        assertThat(codes(EnumSet.allOf(AssignmentStatus.class))).hasSize(AssignmentStatus.values().length);
+    }
+
+    private static Set<Short> partialIndexCodes(String sql, String table) {
+        Matcher matcher = Pattern.compile("ON " + table + " \\([^)]*\\) WHERE status IN \\(([^)]*)\\)").matcher(sql);
+        assertThat(matcher.find()).as("partial index on " + table).isTrue();
+        return Pattern.compile(",\\s*").splitAsStream(matcher.group(1))
+                .map(Short::valueOf)
+                .collect(Collectors.toSet());
+    }
+
+    private static Set<Short> codes(Set<? extends CodedEnum> statuses) {
+        return statuses.stream().map(CodedEnum::getCode).collect(Collectors.toSet());
+    }
+}
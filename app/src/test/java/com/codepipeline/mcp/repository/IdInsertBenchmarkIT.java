@@ -0,0 +1,110 @@
+package com.codepipeline.mcp.repository;
+
+import com.codepipeline.mcp.util.UuidUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares insert throughput and primary key index size on PostgreSQL for the previous identifier scheme
+ * (random UUID strings in a {@code varchar} column) and the current one (time-ordered UUIDv7 in a native
+ * {@code uuid} column).
+ *
+ * <p>Inserts {@code benchmark.rows} rows (default 1,000,000) into each table through JDBC batches. Run
+ * with {@code mvn verify -Dit.test=IdInsertBenchmarkIT}.</p>
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Identifier Insert Benchmark")
+@Slf4j
+class IdInsertBenchmarkIT {
+
+    private static final int ROW_COUNT = Integer.getInteger("benchmark.rows", 1_000_000);
+    private static final int BATCH_SIZE = 1_000;
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:14-alpine")
+            .withDatabaseName("benchdb")
+            .withUsername("bench")
+            .withPassword("bench");
+
+    @Test
+    @DisplayName("time-ordered native UUIDs should insert faster into a smaller index than random varchar UUIDs")
+    void compareIdentifierSchemes() throws SQLException {
+        try (Connection connection = connect()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE tasks_varchar_id (id VARCHAR(255) PRIMARY KEY, "
+                        + "task_id VARCHAR(255) NOT NULL, created_at TIMESTAMP)");
+                statement.execute("CREATE TABLE tasks_uuid_id (id UUID PRIMARY KEY, "
+                        + "task_id VARCHAR(255) NOT NULL, created_at TIMESTAMP)");
+            }
+
+            long randomMillis = insert(connection, "tasks_varchar_id", () -> UUID.randomUUID().toString());
+            long orderedMillis = insert(connection, "tasks_uuid_id", UuidUtils::timeOrdered);
+            long randomIndexBytes = indexSize(connection, "tasks_varchar_id_pkey");
+            long orderedIndexBytes = indexSize(connection, "tasks_uuid_id_pkey");
+
+            log.info("Inserted {} rows per table in batches of {}", ROW_COUNT, BATCH_SIZE);
+            log.info("Random UUID varchar: {} ms, {} rows/s, pk index {} bytes",
+                    randomMillis, ROW_COUNT * 1000L / Math.max(randomMillis, 1), randomIndexBytes);
+            log.info("UUIDv7 native uuid: {} ms, {} rows/s, pk index {} bytes",
+                    orderedMillis, ROW_COUNT * 1000L / Math.max(orderedMillis, 1), orderedIndexBytes);
+
+            // 16-byte keys appended in order fill leaf pages completely; random 36-byte strings split them
+            assertThat(orderedIndexBytes).isLessThan(randomIndexBytes / 2);
+            assertThat(orderedMillis).isLessThan(randomMillis);
+        }
+    }
+
+    private static long insert(Connection connection, String table, Supplier<Object> ids) throws SQLException {
+        connection.setAutoCommit(false);
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        long start = System.nanoTime();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO " + table + " (id, task_id, created_at) VALUES (?, ?, ?)")) {
+            for (int i = 0; i < ROW_COUNT; i++) {
+                statement.setObject(1, ids.get());
+                statement.setString(2, "TASK-" + i);
+                statement.setTimestamp(3, createdAt);
+                statement.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                    connection.commit();
+                }
+            }
+            statement.executeBatch();
+            connection.commit();
+        }
+        connection.setAutoCommit(true);
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private static long indexSize(Connection connection, String index) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_relation_size(?::regclass)")) {
+            statement.setString(1, index);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+    }
+}
@@ -0,0 +1,84 @@
+package com.codepipeline.mcp.repository;
+
+import com.codepipeline.mcp.model.Message;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@DisplayName("Message Repository Content Search Tests")
+class MessageRepositorySearchTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @BeforeEach
+    void setUp() {
+        persist("Deploy finished for RELEASE-1");
+        persist("deploy queued for release-2");
+        persist("Coverage at 50% of target");
+        persist("Coverage at 500 of 1000 lines");
+        persist("file_name.cbl generated");
+        persist("filename.cbl generated");
+        persist("Promote done!");
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("should match content case-insensitively")
+    void shouldMatchIgnoringCase() {
+        assertThat(messageRepository.findByContentContainingIgnoreCase("DEPLOY"))
+                .extracting(Message::getContent)
+                .containsExactlyInAnyOrder("Deploy finished for RELEASE-1", "deploy queued for release-2");
+    }
+
+    @Test
+    @DisplayName("should treat wildcard and escape characters literally")
+    void shouldEscapeWildcards() {
+        assertThat(messageRepository.findByContentContainingIgnoreCase("50%"))
+                .extracting(Message::getContent)
+                .containsExactly("Coverage at 50% of target");
+        assertThat(messageRepository.findByContentContainingIgnoreCase("file_name"))
+                .extracting(Message::getContent)
+                .containsExactly("file_name.cbl generated");
+        assertThat(messageRepository.findByContentContainingIgnoreCase("done!"))
+                .extracting(Message::getContent)
+                .containsExactly("Promote done!");
+    }
+
+    @Test
+    @DisplayName("should page and sort search results with a total count")
+    void shouldPageSearchResults() {
+        Page<Message> page = messageRepository.findByContentContainingIgnoreCase(
+                "cbl", PageRequest.of(0, 1, Sort.by("content")));
+
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).extracting(Message::getContent).containsExactly("file_name.cbl generated");
+    }
+
+    @Test
+    @DisplayName("should build escaped contains patterns")
+    void shouldBuildContainsPattern() {
+        assertThat(MessageRepository.containsPattern("a%b_c!d")).isEqualTo("%a!%b!_c!!d%");
+        assertThat(MessageRepository.containsPattern(null)).isEqualTo("%%");
+    }
+
+    private void persist(String content) {
+        entityManager.persist(Message.builder().content(content).sender("tester").build());
+    }
+}
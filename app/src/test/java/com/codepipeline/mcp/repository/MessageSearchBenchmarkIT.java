@@ -0,0 +1,130 @@
+package com.codepipeline.mcp.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares content search latency on PostgreSQL with and without the trigram index.
+ *
+ * <p>Seeds {@code benchmark.messages} rows (default 1,000,000) through the real Flyway migrations and
+ * times the SQL that Hibernate renders for {@link MessageRepository#findByContentPattern}. The sequential
+ * scan baseline is measured on the same data by disabling index scans for the session. Run with
+ * {@code mvn verify -Dit.test=MessageSearchBenchmarkIT}.</p>
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Message Search Benchmark")
+@Slf4j
+class MessageSearchBenchmarkIT {
+
+    private static final int MESSAGE_COUNT = Integer.getInteger("benchmark.messages", 1_000_000);
+    private static final int ITERATIONS = 15;
+    private static final String SEARCH_SQL =
+            "SELECT * FROM messages m WHERE m.content ILIKE ? ESCAPE '!' ORDER BY m.created_at DESC LIMIT 20";
+    private static final String COUNT_SQL = "SELECT count(*) FROM messages m WHERE m.content ILIKE ? ESCAPE '!'";
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:14-alpine")
+            .withDatabaseName("benchdb")
+            .withUsername("bench")
+            .withPassword("bench");
+
+    @BeforeAll
+    static void seed() throws SQLException {
+        Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .locations("classpath:db/migration", "classpath:db/vendor/postgresql")
+                .load()
+                .migrate();
+        
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO messages (id, content, sender, created_at) "
+                    + "SELECT md5(i::text), 'Build ' || i || ' of component ' || md5((i * 7)::text), "
+                    + "'user' || (i % 100), now() - (i || ' seconds')::interval "
+                    + "FROM generate_series(1, " + MESSAGE_COUNT + ") AS i");
+            statement.execute("ANALYZE messages");
+        }
+    }
+
+    @Test
+    @DisplayName("trigram index should beat a sequential scan for contains searches")
+    void compareSearchLatency() throws SQLException {
+        // A selective term (a fragment of one md5) and a common one
+        String selective = MessageRepository.containsPattern("c4ca4238a0");
+        String common = MessageRepository.containsPattern("component");
+
+        try (Connection connection = connect()) {
+            assertThat(explain(connection, selective)).contains("idx_messages_content_trgm");
+            
+            long indexedSelective = medianMicros(connection, SEARCH_SQL, selective);
+            long indexedCount = medianMicros(connection, COUNT_SQL, selective);
+            
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET enable_bitmapscan = off");
+                statement.execute("SET enable_indexscan = off");
+            }
+            assertThat(explain(connection, selective)).contains("Seq Scan");
+            long scanSelective = medianMicros(connection, SEARCH_SQL, selective);
+            long scanCount = medianMicros(connection, COUNT_SQL, selective);
+            long scanCommon = medianMicros(connection, SEARCH_SQL, common);
+
+            log.info("Content search over {} messages (median of {} runs)", MESSAGE_COUNT, ITERATIONS);
+            log.info("Selective page: trigram index {} us, seq scan {} us", indexedSelective, scanSelective);
+            log.info("Selective count: trigram index {} us, seq scan {} us", indexedCount, scanCount);
+            log.info("Common page: seq scan {} us (planner prefers a scan for unselective terms)", scanCommon);
+
+            assertThat(indexedSelective).isLessThan(scanSelective);
+            assertThat(indexedCount).isLessThan(scanCount);
+        }
+    }
+
+    private static long medianMicros(Connection connection, String sql, String pattern) throws SQLException {
+        long[] samples = new long[ITERATIONS];
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, pattern);
+            for (int i = 0; i < ITERATIONS; i++) {
+                long start = System.nanoTime();
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        resultSet.getString(1);
+                    }
+                }
+                samples[i] = (System.nanoTime() - start) / 1_000;
+            }
+        }
+        Arrays.sort(samples);
+        return samples[ITERATIONS / 2];
+    }
+
+    private static String explain(Connection connection, String pattern) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + SEARCH_SQL)) {
+            statement.setString(1, pattern);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1)).append('\n');
+                }
+            }
+        }
+        return plan.toString();
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+    }
+}
@@ -0,0 +1,171 @@
+package com.codepipeline.mcp.repository;
+
+import com.codepipeline.mcp.model.AssignmentStatus;
+import com.codepipeline.mcp.model.DeploymentStatus;
+import com.codepipeline.mcp.model.ReleaseStatus;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.FlywayException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Builds the schema from the Flyway migrations (instead of Hibernate DDL), validates the entities against it
+ * and checks with {@code EXPLAIN} that the hot repository queries are served by an index. H2 backs every
+ * foreign key with an index of its own, so child lookups by parent may use either that or the composite index.
+ *
+ * <p>The migrations are read from the source tree because the test classpath carries a stale copy of
+ * {@code V1} under {@code db/migration}.</p>
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.locations=" + SchemaMigrationTest.LOCATIONS,
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@DisplayName("Schema Migration Tests")
+class SchemaMigrationTest {
+
+    static final String LOCATIONS =
+            "filesystem:src/main/resources/db/migration,filesystem:src/main/resources/db/vendor/{vendor}";
+
+    private static final String PARENT_IDS =
+            "'0190f5a2-7c3e-7a51-9d2b-3c4e5f607182', '0190f5a2-7c3e-7b62-8e3c-4d5f60718293'";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("should migrate to the latest version with a schema the entities validate against")
+    void shouldApplyAllMigrations() {
+        List<String> versions = jdbcTemplate.queryForList(
+                "SELECT \"version\" FROM \"flyway_schema_history\" WHERE \"version\" IS NOT NULL AND \"success\" = TRUE "
+                        + "ORDER BY \"installed_rank\"",
+                String.class);
+
+        assertThat(versions).containsExactly("1", "2", "3", "4", "5", "7", "8", "9", "10");
+    }
+
+    @Test
+    @DisplayName("should keep vendor-specific migrations out of the shared location")
+    void shouldKeepVendorMigrationsOutOfSharedLocation() throws IOException {
+        // Flyway scans db/migration recursively, so a vendor subfolder there would run on every database
+        try (Stream<Path> entries = Files.list(Path.of("src/main/resources/db/migration"))) {
+            assertThat(entries.filter(Files::isDirectory)).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("should convert free-form status strings to enum codes")
+    void shouldConvertLegacyStatuses() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:legacy_statuses;DB_CLOSE_DELAY=-1");
+        JdbcTemplate legacy = new JdbcTemplate(dataSource);
+        Flyway.configure().dataSource(dataSource).locations(LOCATIONS.replace("{vendor}", "h2").split(",")).target("8").load().migrate();
+        legacy.update("INSERT INTO assignments (id, assignment_id, srid, status) VALUES "
+                + "('0190f5a2-7c3e-7a51-9d2b-3c4e5f607182', 'A1', 'S', 'open'), "
+                + "('0190f5a2-7c3e-7b62-8e3c-4d5f60718293', 'A2', 'S', ' ')");
+        legacy.update("INSERT INTO releases (id, release_id, srid, status) "
+                + "VALUES ('0190f5a2-7c3e-7a51-9d2b-3c4e5f607182', 'R1', 'S', 'DEPLOY_FAILED')");
+        legacy.update("INSERT INTO release_sets (id, set_id, release_id, deployment_status) VALUES "
+                + "('0190f5a2-7c3e-7c73-9f4d-5e6071829304', 'S1', '0190f5a2-7c3e-7a51-9d2b-3c4e5f607182', 'COMPLETE')");
+
+        Flyway.configure().dataSource(dataSource).locations(LOCATIONS.replace("{vendor}", "h2").split(",")).load().migrate();
+
+        assertThat(legacy.queryForList("SELECT status FROM assignments ORDER BY assignment_id", Short.class))
+                .containsExactly(AssignmentStatus.OPEN.getCode(), null);
+        assertThat(legacy.queryForObject("SELECT status FROM releases", Short.class))
+                .isEqualTo(ReleaseStatus.DEPLOY_FAILED.getCode());
+        assertThat(legacy.queryForObject("SELECT deployment_status FROM release_sets", Short.class))
+                .isEqualTo(DeploymentStatus.COMPLETE.getCode());
+        legacy.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    @DisplayName("should refuse to convert status strings that match no enum constant")
+    void shouldFailOnUnknownStatuses() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:unknown_statuses;DB_CLOSE_DELAY=-1");
+        JdbcTemplate legacy = new JdbcTemplate(dataSource);
+        Flyway.configure().dataSource(dataSource).locations(LOCATIONS.replace("{vendor}", "h2").split(",")).target("8").load().migrate();
+        legacy.update("INSERT INTO assignments (id, assignment_id, srid, status) "
+                + "VALUES ('0190f5a2-7c3e-7b62-8e3c-4d5f60718293', 'A2', 'S', 'LEGACY')");
+
+        assertThatThrownBy(() -> Flyway.configure().dataSource(dataSource)
+                .locations(LOCATIONS.replace("{vendor}", "h2").split(",")).load().migrate())
+                .isInstanceOf(FlywayException.class)
+                .hasMessageContaining("CHK_STATUS_MUST_MATCH_AN_ENUM_CONSTANT");
+        assertThat(legacy.queryForObject("SELECT status FROM assignments", String.class)).isEqualTo("LEGACY");
+        legacy.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    @DisplayName("should backfill missing creation times so every row can be addressed by a cursor")
+    void shouldBackfillCreatedAt() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:missing_created_at;DB_CLOSE_DELAY=-1");
+        JdbcTemplate legacy = new JdbcTemplate(dataSource);
+        Flyway.configure().dataSource(dataSource).locations(LOCATIONS.replace("{vendor}", "h2").split(",")).target("5").load().migrate();
+        legacy.update("INSERT INTO assignments (id, status, updated_at) VALUES "
+                + "('0190f5a2-7c3e-7a51-9d2b-3c4e5f607182', 'OPEN', TIMESTAMP '2024-01-02 03:04:05'), "
+                + "('0190f5a2-7c3e-7b62-8e3c-4d5f60718293', 'OPEN', NULL)");
+
+        Flyway.configure().dataSource(dataSource).locations(LOCATIONS.replace("{vendor}", "h2").split(",")).load().migrate();
+
+        assertThat(legacy.queryForList("SELECT created_at FROM assignments ORDER BY id", Timestamp.class))
+                .doesNotContainNull()
+                .first().isEqualTo(Timestamp.valueOf("2024-01-02 03:04:05"));
+        assertThatThrownBy(() -> legacy.update("UPDATE assignments SET created_at = NULL"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        legacy.execute("DROP ALL OBJECTS");
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource(delimiter = '|', value = {
+            "assignment by business key | SELECT * FROM assignments WHERE assignment_id = 'A' AND srid = 'S' "
+                    + "| UQ_ASSIGNMENTS_ASSIGNMENT_ID",
+            "filtered assignments | SELECT * FROM assignments WHERE srid = 'S' AND application = 'APP' AND status = 1 "
+                    + "| IDX_ASSIGNMENTS_SRID_APPLICATION_STATUS",
+            "release by business key | SELECT * FROM releases WHERE release_id = 'R' AND srid = 'S' "
+                    + "| UQ_RELEASES_RELEASE_ID",
+            "filtered releases | SELECT * FROM releases WHERE srid = 'S' AND application = 'APP' AND status = 1 "
+                    + "| IDX_RELEASES_SRID_APPLICATION_STATUS",
+            "task with its assignment | SELECT a.id, t.* FROM assignments a LEFT JOIN tasks t "
+                    + "ON t.assignment_id = a.id AND t.task_id = 'T' WHERE a.assignment_id = 'A' AND a.srid = 'S' "
+                    + "| IDX_TASKS_ASSIGNMENT_ID_TASK_ID FK_TASKS_ASSIGNMENT",
+            "task page of an assignment | SELECT t.* FROM tasks t JOIN assignments a ON t.assignment_id = a.id "
+                    + "WHERE a.srid = 'S' AND a.assignment_id = 'A' ORDER BY t.created_at, t.id "
+                    + "| IDX_TASKS_ASSIGNMENT_ID FK_TASKS_ASSIGNMENT",
+            "tasks of a batch of assignments | SELECT * FROM tasks WHERE assignment_id IN (" + PARENT_IDS + ") "
+                    + "| IDX_TASKS_ASSIGNMENT_ID FK_TASKS_ASSIGNMENT",
+            "sets of a batch of releases | SELECT * FROM release_sets WHERE release_id IN (" + PARENT_IDS + ") "
+                    + "| IDX_RELEASE_SETS_RELEASE_ID_SET_ID FK_RELEASE_SETS_RELEASE",
+            "set by business key | SELECT rs.* FROM release_sets rs JOIN releases r ON rs.release_id = r.id "
+                    + "WHERE rs.set_id = 'S1' AND r.srid = 'S' | UQ_RELEASE_SETS_SET_ID",
+            "package by business key | SELECT * FROM packages WHERE srid = 'S' AND package_id = 'P' "
+                    + "| UQ_PACKAGES_SRID_PACKAGE_ID",
+            "queued deployment jobs | SELECT id FROM deployment_jobs WHERE status = 'QUEUED' "
+                    + "AND created_at < CURRENT_TIMESTAMP ORDER BY created_at | IDX_DEPLOYMENT_JOBS_STATUS_CREATED_AT",
+            "stale running deployment jobs | SELECT id FROM deployment_jobs WHERE status = 'RUNNING' "
+                    + "AND updated_at < CURRENT_TIMESTAMP ORDER BY updated_at | IDX_DEPLOYMENT_JOBS_STATUS_UPDATED_AT",
+            "messages by sender | SELECT * FROM messages WHERE sender = 'U' | IDX_MESSAGES_SENDER"
+    })
+    @DisplayName("should serve hot queries from an index")
+    void shouldUseIndex(String description, String sql, String indexes) {
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+
+        assertThat(plan).as(plan).doesNotContainIgnoringCase("tableScan");
+        assertThat(plan.toUpperCase()).as(plan).containsAnyOf(indexes.split(" "));
+    }
+}
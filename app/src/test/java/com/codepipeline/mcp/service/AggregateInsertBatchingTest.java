@@ -0,0 +1,119 @@
+package com.codepipeline.mcp.service;
+
+import com.codepipeline.mcp.dto.AssignmentDto;
+import com.codepipeline.mcp.dto.ReleaseDto;
+import com.codepipeline.mcp.dto.ReleaseSetDto;
+import com.codepipeline.mcp.dto.TaskDto;
+import com.codepipeline.mcp.model.ReleaseStatus;
+import com.codepipeline.mcp.model.TaskStatus;
+import com.codepipeline.mcp.repository.ListProjectionRepository;
+import com.codepipeline.mcp.util.UuidUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that saving a large aggregate cascades its children as JDBC batches
+ * ({@code hibernate.jdbc.batch_size} from application.yml) rather than one statement per row.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({AssignmentService.class, ReleaseService.class, ParentLookupService.class, ListProjectionRepository.class,
+        SimpleMeterRegistry.class})
+@DisplayName("Aggregate Insert Batching Tests")
+class AggregateInsertBatchingTest {
+
+    private static final String SRID = "SRID1";
+    private static final int CHILD_COUNT = 1000;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AssignmentService assignmentService;
+
+    @Autowired
+    private ReleaseService releaseService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("should insert a 1,000-task assignment in batches")
+    void shouldBatchCascadedTaskInserts() {
+        List<TaskDto> tasks = new ArrayList<>();
+        for (int i = 0; i < CHILD_COUNT; i++) {
+            tasks.add(TaskDto.builder().taskId("TASK-" + i).status(TaskStatus.OPEN).componentName("PROG" + i).build());
+        }
+
+        AssignmentDto created = assignmentService.createAssignment(SRID, AssignmentDto.builder()
+                .assignmentId("ASSIGN-1")
+                .tasks(tasks)
+                .build());
+        entityManager.flush();
+
+        assertThat(created.getTasks()).hasSize(CHILD_COUNT);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(CHILD_COUNT + 1);
+        // duplicate check + assignment insert + one task insert re-executed per batch
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should persist rather than merge children that arrive with ids")
+    void shouldIgnoreClientSuppliedIds() {
+        List<TaskDto> tasks = new ArrayList<>();
+        for (int i = 0; i < CHILD_COUNT; i++) {
+            tasks.add(TaskDto.builder().id(UuidUtils.timeOrdered().toString()).taskId("TASK-" + i).build());
+        }
+
+        assignmentService.createAssignment(SRID, AssignmentDto.builder()
+                .id(UuidUtils.timeOrdered().toString())
+                .assignmentId("ASSIGN-2")
+                .tasks(tasks)
+                .build());
+        entityManager.flush();
+
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should insert a 1,000-set release in batches")
+    void shouldBatchCascadedReleaseSetInserts() {
+        List<ReleaseSetDto> sets = new ArrayList<>();
+        for (int i = 0; i < CHILD_COUNT; i++) {
+            sets.add(ReleaseSetDto.builder().setId("SET-" + i).status(ReleaseStatus.OPEN).build());
+        }
+
+        releaseService.createRelease(SRID, ReleaseDto.builder()
+                .releaseId("REL-1")
+                .sets(sets)
+                .build());
+        entityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(CHILD_COUNT + 1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,158 @@
+package com.codepipeline.mcp.service;
+
+import com.codepipeline.mcp.dto.AssignmentDto;
+import com.codepipeline.mcp.dto.TaskDto;
+import com.codepipeline.mcp.model.Assignment;
+import com.codepipeline.mcp.model.AssignmentStatus;
+import com.codepipeline.mcp.model.Task;
+import com.codepipeline.mcp.model.TaskStatus;
+import com.codepipeline.mcp.repository.AssignmentRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import({AssignmentExportService.class, JacksonAutoConfiguration.class})
+@DisplayName("Assignment Export Service Tests")
+class AssignmentExportServiceTest {
+
+    private static final String SRID = "SRID1";
+    private static final int ASSIGNMENT_COUNT = 12;
+    private static final int TASKS_PER_ASSIGNMENT = 2;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AssignmentExportService assignmentExportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < ASSIGNMENT_COUNT; i++) {
+            Assignment assignment = Assignment.builder()
+                    .assignmentId("ASSIGN-" + i)
+                    .srid(SRID)
+                    .application("APP1")
+                    .status(AssignmentStatus.OPEN)
+                    .build();
+            for (int j = 0; j < TASKS_PER_ASSIGNMENT; j++) {
+                assignment.addTask(Task.builder()
+                        .taskId("TASK-" + j)
+                        .status(TaskStatus.OPEN)
+                        .build());
+            }
+            entityManager.persist(assignment);
+        }
+        entityManager.persist(Assignment.builder()
+                .assignmentId("OTHER-1")
+                .srid("OTHER")
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("should write one JSON document per assignment with its tasks")
+    void shouldExportAssignmentsAsNdjson() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = assignmentExportService.exportAssignments(SRID, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        List<AssignmentDto> exported = new ArrayList<>();
+        for (String line : lines) {
+            exported.add(objectMapper.readValue(line, AssignmentDto.class));
+        }
+
+        assertThat(count).isEqualTo(ASSIGNMENT_COUNT);
+        assertThat(exported).hasSize(ASSIGNMENT_COUNT);
+        assertThat(exported).allSatisfy(dto -> {
+            assertThat(dto.getSrid()).isEqualTo(SRID);
+            assertThat(dto.getTasks()).hasSize(TASKS_PER_ASSIGNMENT);
+        });
+    }
+
+    @Test
+    @DisplayName("should export every assignment with its own tasks across several batches")
+    void shouldExportAcrossBatches() throws Exception {
+        String bulkSrid = "BULK";
+        int batchSize = AssignmentRepository.STREAM_FETCH_SIZE;
+        int total = 2 * batchSize + 7;
+        for (int i = 0; i < total; i++) {
+            Assignment assignment = Assignment.builder()
+                    .assignmentId("BULK-" + i)
+                    .srid(bulkSrid)
+                    .build();
+            assignment.addTask(Task.builder().taskId("TASK-BULK-" + i).build());
+            entityManager.persist(assignment);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        AtomicInteger flushes = new AtomicInteger();
+        FilterOutputStream out = new FilterOutputStream(bytes) {
+            @Override
+            public void flush() throws IOException {
+                flushes.incrementAndGet();
+                super.flush();
+            }
+        };
+
+        long count = assignmentExportService.exportAssignments(bulkSrid, out);
+
+        List<AssignmentDto> exported = new ArrayList<>();
+        for (String line : bytes.toString(StandardCharsets.UTF_8).split("\n")) {
+            exported.add(objectMapper.readValue(line, AssignmentDto.class));
+        }
+        assertThat(count).isEqualTo(total);
+        assertThat(exported).extracting(AssignmentDto::getAssignmentId).doesNotHaveDuplicates().hasSize(total);
+        assertThat(exported).allSatisfy(dto -> assertThat(dto.getTasks())
+                .extracting(TaskDto::getTaskId)
+                .containsExactly("TASK-" + dto.getAssignmentId()));
+        // One flush per batch (two full, one partial) plus the final one
+        assertThat(flushes.get()).isGreaterThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("should leave no exported entities in the persistence context")
+    void shouldDetachEntitiesAfterExport() throws Exception {
+        assignmentExportService.exportAssignments(SRID, new ByteArrayOutputStream());
+
+        Session session = entityManager.getEntityManager().unwrap(Session.class);
+        assertThat(session.getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("should write nothing for an unknown SRID")
+    void shouldExportNothingForUnknownSrid() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = assignmentExportService.exportAssignments("UNKNOWN", out);
+
+        assertThat(count).isZero();
+        assertThat(out.size()).isZero();
+    }
+}
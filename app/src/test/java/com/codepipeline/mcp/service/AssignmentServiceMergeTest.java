@@ -0,0 +1,128 @@
+package com.codepipeline.mcp.service;
+
+import com.codepipeline.mcp.dto.AssignmentDto;
+import com.codepipeline.mcp.dto.TaskDto;
+import com.codepipeline.mcp.model.Assignment;
+import com.codepipeline.mcp.model.AssignmentStatus;
+import com.codepipeline.mcp.model.Task;
+import com.codepipeline.mcp.model.TaskStatus;
+import com.codepipeline.mcp.repository.ListProjectionRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({AssignmentService.class, ParentLookupService.class, ListProjectionRepository.class})
+@DisplayName("Assignment Service Task Merge Tests")
+class AssignmentServiceMergeTest {
+
+    private static final String SRID = "SRID1";
+    private static final String ASSIGNMENT_ID = "ASSIGN-1";
+    private static final int TASK_COUNT = 200;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AssignmentService assignmentService;
+
+    private Statistics statistics;
+    private AssignmentDto current;
+
+    @BeforeEach
+    void setUp() {
+        Assignment assignment = Assignment.builder()
+                .assignmentId(ASSIGNMENT_ID)
+                .srid(SRID)
+                .application("APP1")
+                .status(AssignmentStatus.OPEN)
+                .build();
+        for (int i = 0; i < TASK_COUNT; i++) {
+            assignment.addTask(Task.builder()
+                    .taskId("TASK-" + i)
+                    .status(TaskStatus.OPEN)
+                    .componentName("PROG" + i)
+                    .build());
+        }
+        entityManager.persist(assignment);
+        entityManager.flush();
+        entityManager.clear();
+
+        current = assignmentService.getAssignment(SRID, ASSIGNMENT_ID);
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("should write a single row when one field of one task changes")
+    void shouldUpdateOnlyChangedTask() {
+        current.getTasks().stream()
+                .filter(task -> task.getTaskId().equals("TASK-42"))
+                .findFirst()
+                .orElseThrow()
+                .setStatus(TaskStatus.CLOSED);
+
+        assignmentService.updateAssignment(SRID, ASSIGNMENT_ID, current);
+        entityManager.flush();
+
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isZero();
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("should write nothing when the payload is unchanged")
+    void shouldWriteNothingForUnchangedPayload() {
+        assignmentService.updateAssignment(SRID, ASSIGNMENT_ID, current);
+        entityManager.flush();
+
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+        assertThat(statistics.getEntityInsertCount()).isZero();
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("should insert new tasks, delete missing ones and keep the identity of the rest")
+    void shouldInsertAndDeleteOnlyDifferences() {
+        Map<String, String> idsBefore = current.getTasks().stream()
+                .collect(Collectors.toMap(TaskDto::getTaskId, TaskDto::getId));
+        List<TaskDto> tasks = current.getTasks().stream()
+                .filter(task -> !task.getTaskId().equals("TASK-0"))
+                .collect(Collectors.toList());
+        tasks.add(TaskDto.builder().taskId("TASK-NEW").status(TaskStatus.OPEN).build());
+        current.setTasks(tasks);
+
+        AssignmentDto updated = assignmentService.updateAssignment(SRID, ASSIGNMENT_ID, current);
+        entityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(statistics.getEntityDeleteCount()).isEqualTo(1);
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+
+        Map<String, TaskDto> tasksAfter = updated.getTasks().stream()
+                .collect(Collectors.toMap(TaskDto::getTaskId, Function.identity()));
+        assertThat(tasksAfter).hasSize(TASK_COUNT).doesNotContainKey("TASK-0").containsKey("TASK-NEW");
+        assertThat(tasksAfter.get("TASK-1").getId()).isEqualTo(idsBefore.get("TASK-1"));
+    }
+}
@@ -0,0 +1,119 @@
+package com.codepipeline.mcp.service;
+
+import com.codepipeline.mcp.dto.AssignmentDto;
+import com.codepipeline.mcp.dto.AssignmentFilter;
+import com.codepipeline.mcp.exception.BusinessException;
+import com.codepipeline.mcp.model.Assignment;
+import com.codepipeline.mcp.model.AssignmentStatus;
+import com.codepipeline.mcp.model.Task;
+import com.codepipeline.mcp.model.TaskStatus;
+import com.codepipeline.mcp.repository.ListProjectionRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifies the number of SQL statements issued when listing assignments with and without
+ * {@code include=tasks}, using Hibernate statistics against the embedded H2 database.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({AssignmentService.class, ParentLookupService.class, ListProjectionRepository.class})
+@DisplayName("Assignment Service Query Count Tests")
+class AssignmentServiceQueryCountTest {
+
+    private static final String SRID = "SRID1";
+    private static final int ASSIGNMENT_COUNT = 25;
+    private static final int TASKS_PER_ASSIGNMENT = 3;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AssignmentService assignmentService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < ASSIGNMENT_COUNT; i++) {
+            Assignment assignment = Assignment.builder()
+                    .assignmentId("ASSIGN-" + i)
+                    .srid(SRID)
+                    .application("APP1")
+                    .status(AssignmentStatus.OPEN)
+                    .build();
+            for (int j = 0; j < TASKS_PER_ASSIGNMENT; j++) {
+                assignment.addTask(Task.builder()
+                        .taskId("TASK-" + i + "-" + j)
+                        .status(TaskStatus.OPEN)
+                        .build());
+            }
+            entityManager.persist(assignment);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("should not touch tasks unless they are included")
+    void shouldSkipTasksByDefault() {
+        List<AssignmentDto> assignments =
+                assignmentService.getAssignments(SRID, new AssignmentFilter(), null, null, null, 100).getItems();
+
+        assertThat(assignments).hasSize(ASSIGNMENT_COUNT);
+        assertThat(assignments).allSatisfy(assignment -> assertThat(assignment.getTasks()).isNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("should load the tasks of the whole page in one statement when included")
+    void shouldLoadIncludedTasksInOneStatement() {
+        List<AssignmentDto> assignments = assignmentService.getAssignments(
+                SRID, new AssignmentFilter(), null, AssignmentService.INCLUDE_TASKS, null, 10).getItems();
+
+        assertThat(assignments).hasSize(10);
+        assertThat(assignments).allSatisfy(assignment ->
+                assertThat(assignment.getTasks()).hasSize(TASKS_PER_ASSIGNMENT));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should skip the task statement when no assignment matches")
+    void shouldSkipTaskQueryWhenNoAssignmentsMatch() {
+        List<AssignmentDto> assignments = assignmentService.getAssignments(
+                "UNKNOWN", new AssignmentFilter(), null, AssignmentService.INCLUDE_TASKS, null, 100).getItems();
+
+        assertThat(assignments).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should reject an unknown include")
+    void shouldRejectUnknownInclude() {
+        assertThatThrownBy(() ->
+                assignmentService.getAssignments(SRID, new AssignmentFilter(), null, "tasks,sets", null, 10))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("sets");
+    }
+}
@@ -0,0 +1,169 @@
+package com.codepipeline.mcp.service;
+
+import com.codepipeline.mcp.config.OutboxConfig;
+import com.codepipeline.mcp.dto.AssignmentDto;
+import com.codepipeline.mcp.dto.ChangeEventDto;
+import com.codepipeline.mcp.dto.TaskDto;
+import com.codepipeline.mcp.model.Assignment;
+import com.codepipeline.mcp.model.AssignmentStatus;
+import com.codepipeline.mcp.model.Task;
+import com.codepipeline.mcp.model.TaskStatus;
+import com.codepipeline.mcp.repository.ListProjectionRepository;
+import com.codepipeline.mcp.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "mcp.outbox.batch-size=3"
+})
+@Import({AssignmentService.class, TaskService.class, ParentLookupService.class, ListProjectionRepository.class,
+        ChangeEventOutbox.class, ChangeEventRelay.class, OutboxConfig.class})
+@DisplayName("Change Event Relay Tests")
+class ChangeEventRelayTest {
+
+    private static final String SRID = "SRID1";
+    private static final String ASSIGNMENT_ID = "ASSIGN-1";
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AssignmentService assignmentService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ChangeEventRelay changeEventRelay;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @MockBean
+    private SimpMessageSendingOperations messagingTemplate;
+
+    @BeforeEach
+    void setUp() {
+        Assignment assignment = Assignment.builder()
+                .assignmentId(ASSIGNMENT_ID)
+                .srid(SRID)
+                .status(AssignmentStatus.OPEN)
+                .build();
+        assignment.addTask(Task.builder().taskId("TASK-1").status(TaskStatus.OPEN).build());
+        entityManager.persist(assignment);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("should record changes in the outbox without publishing them")
+    void shouldRecordChangesInTransaction() {
+        updateStatus(AssignmentStatus.IN_PROGRESS);
+        updateTask("TASK-1", TaskStatus.PROMOTED);
+
+        assertThat(outboxEventRepository.count()).isEqualTo(2);
+        verifyNoInteractions(messagingTemplate);
+    }
+
+    @Test
+    @DisplayName("should record nothing when a task update changes no field")
+    void shouldSkipUnchangedTask() {
+        updateTask("TASK-1", TaskStatus.OPEN);
+
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("should publish only the latest change per resource to the topic of its SRID")
+    void shouldCoalesceChangesPerResource() {
+        updateStatus(AssignmentStatus.IN_PROGRESS);
+        updateTask("TASK-1", TaskStatus.PROMOTED);
+        updateStatus(AssignmentStatus.CLOSED);
+        entityManager.flush();
+
+        int sent = changeEventRelay.drain();
+
+        assertThat(sent).isEqualTo(2);
+        ArgumentCaptor<Object> assignmentEvent = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate).convertAndSend(eq("/topic/ispw/SRID1/assignments"), assignmentEvent.capture());
+        assertThat((ChangeEventDto) assignmentEvent.getValue()).satisfies(event -> {
+            assertThat(event.getType()).isEqualTo("assignment:updated");
+            assertThat(event.getId()).isEqualTo(ASSIGNMENT_ID);
+            assertThat(event.getStatus()).isEqualTo("CLOSED");
+        });
+        ArgumentCaptor<Object> taskEvent = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate).convertAndSend(eq("/topic/ispw/SRID1/tasks"), taskEvent.capture());
+        assertThat((ChangeEventDto) taskEvent.getValue()).satisfies(event -> {
+            assertThat(event.getType()).isEqualTo("task:updated");
+            assertThat(event.getParentId()).isEqualTo(ASSIGNMENT_ID);
+            assertThat(event.getStatus()).isEqualTo("PROMOTED");
+        });
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("should drain the outbox in batches until it is empty")
+    void shouldDrainInBatches() {
+        for (int i = 0; i < 7; i++) {
+            taskService.createTask(SRID, ASSIGNMENT_ID, TaskDto.builder().taskId("NEW-" + i).build());
+        }
+        entityManager.flush();
+
+        int sent = changeEventRelay.drain();
+
+        assertThat(sent).isEqualTo(7);
+        verify(messagingTemplate, times(7)).convertAndSend(eq("/topic/ispw/SRID1/tasks"), any(Object.class));
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("should publish deletions, including those of cascaded tasks")
+    void shouldPublishDeletion() {
+        assignmentService.deleteAssignment(SRID, ASSIGNMENT_ID);
+        entityManager.flush();
+
+        changeEventRelay.drain();
+
+        ArgumentCaptor<Object> assignmentEvent = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate).convertAndSend(eq("/topic/ispw/SRID1/assignments"), assignmentEvent.capture());
+        assertThat(((ChangeEventDto) assignmentEvent.getValue()).getType()).isEqualTo("assignment:deleted");
+        ArgumentCaptor<Object> taskEvent = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate).convertAndSend(eq("/topic/ispw/SRID1/tasks"), taskEvent.capture());
+        assertThat((ChangeEventDto) taskEvent.getValue()).satisfies(event -> {
+            assertThat(event.getType()).isEqualTo("task:deleted");
+            assertThat(event.getId()).isEqualTo("TASK-1");
+            assertThat(event.getParentId()).isEqualTo(ASSIGNMENT_ID);
+        });
+    }
+
+    private void updateStatus(AssignmentStatus status) {
+        AssignmentDto assignment = assignmentService.getAssignment(SRID, ASSIGNMENT_ID);
+        assignment.setStatus(status);
+        assignmentService.updateAssignment(SRID, ASSIGNMENT_ID, assignment);
+    }
+
+    private void updateTask(String taskId, TaskStatus status) {
+        TaskDto task = taskService.getTask(SRID, ASSIGNMENT_ID, taskId);
+        task.setStatus(status);
+        taskService.updateTask(SRID, ASSIGNMENT_ID, taskId, task);
+    }
+}
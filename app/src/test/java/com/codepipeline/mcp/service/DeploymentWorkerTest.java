@@ -0,0 +1,260 @@
+package com.codepipeline.mcp.service;
+
+import com.codepipeline.mcp.config.ApplicationConfig;
+import com.codepipeline.mcp.config.DeploymentConfig;
+import com.codepipeline.mcp.config.IspwClientConfig;
+import com.codepipeline.mcp.dto.DeployRequest;
+import com.codepipeline.mcp.dto.DeploymentJobDto;
+import com.codepipeline.mcp.model.DeploymentJob;
+import com.codepipeline.mcp.model.DeploymentStatus;
+import com.codepipeline.mcp.model.Release;
+import com.codepipeline.mcp.model.ReleaseSet;
+import com.codepipeline.mcp.model.ReleaseStatus;
+import com.codepipeline.mcp.repository.DeploymentJobRepository;
+import com.codepipeline.mcp.repository.ReleaseRepository;
+import com.codepipeline.mcp.repository.ReleaseSetRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Runs deployments through the real worker pool against the embedded H2 database. Test methods are
+ * not transactional so that jobs are committed and visible to the worker threads.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "mcp.deployment.workers=1",
+        "mcp.deployment.queue-capacity=1",
+        "mcp.deployment.sweep-interval=PT0.1S"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({DeploymentService.class, DeploymentWorker.class, DeploymentConfig.class, IspwClientConfig.class,
+        ApplicationConfig.class, DeploymentWorkerTest.GatedExecutorConfig.class})
+@DisplayName("Deployment Worker Tests")
+class DeploymentWorkerTest {
+
+    private static final String SRID = "SRID1";
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private DeploymentService deploymentService;
+
+    @Autowired
+    private DeploymentJobRepository deploymentJobRepository;
+
+    @Autowired
+    private ReleaseRepository releaseRepository;
+
+    @Autowired
+    private ReleaseSetRepository releaseSetRepository;
+
+    @Autowired
+    private GatedDeploymentExecutor executor;
+
+    @Autowired
+    private DeploymentWorker deploymentWorker;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final DeployRequest request = DeployRequest.builder()
+            .level("PROD")
+            .environment("prod")
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        executor.close();
+        Release release = Release.builder()
+                .releaseId("REL-1")
+                .srid(SRID)
+                .status(ReleaseStatus.OPEN)
+                .build();
+        for (int i = 0; i < 3; i++) {
+            release.addSet(ReleaseSet.builder().setId("SET-" + i).status(ReleaseStatus.OPEN).build());
+        }
+        releaseRepository.save(release);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.open();
+        await().atMost(TIMEOUT).until(() -> deploymentJobRepository.findAll().stream()
+                .noneMatch(job -> job.getStatus() == DeploymentJob.Status.QUEUED
+                        || job.getStatus() == DeploymentJob.Status.RUNNING));
+        deploymentJobRepository.deleteAll();
+        releaseRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("should return a queued job immediately and complete it on a worker")
+    void shouldDeployAsynchronously() {
+        DeploymentJobDto job = deploymentService.deployReleaseSet(SRID, "SET-0", request);
+
+        assertThat(job.getStatus()).isEqualTo(DeploymentJob.Status.QUEUED);
+        await().atMost(TIMEOUT).until(() -> status(job.getId()) == DeploymentJob.Status.RUNNING);
+        assertThat(releaseSet("SET-0").getDeploymentStatus()).isEqualTo(DeploymentStatus.IN_PROGRESS);
+
+        executor.open();
+
+        await().atMost(TIMEOUT).until(() -> status(job.getId()) == DeploymentJob.Status.SUCCEEDED);
+        ReleaseSet deployed = releaseSet("SET-0");
+        assertThat(deployed.getStatus()).isEqualTo(ReleaseStatus.DEPLOYED);
+        assertThat(deployed.getDeploymentStatus()).isEqualTo(DeploymentStatus.COMPLETE);
+        assertThat(deployed.getDeployedAt()).isNotNull();
+        assertThat(deploymentService.getJob(SRID, job.getId()).getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should return the active job when the target is already being deployed")
+    void shouldNotQueueDuplicateJobs() {
+        DeploymentJobDto first = deploymentService.deployRelease(SRID, "REL-1", request);
+        DeploymentJobDto second = deploymentService.deployRelease(SRID, "REL-1", request);
+
+        assertThat(second.getId()).isEqualTo(first.getId());
+        assertThat(deploymentJobRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should mark the job and target as failed when the deployment throws")
+    void shouldRecordFailure() {
+        executor.failWith(new IllegalStateException("target environment unavailable"));
+        executor.open();
+
+        DeploymentJobDto job = deploymentService.deployRelease(SRID, "REL-1", request);
+
+        await().atMost(TIMEOUT).until(() -> status(job.getId()) == DeploymentJob.Status.FAILED);
+        assertThat(deploymentService.getJob(SRID, job.getId()).getErrorMessage())
+                .isEqualTo("target environment unavailable");
+        assertThat(releaseRepository.findByReleaseIdAndSrid("REL-1", SRID).orElseThrow().getStatus())
+                .isEqualTo(ReleaseStatus.DEPLOY_FAILED);
+    }
+
+    @Test
+    @DisplayName("should keep overflow jobs queued and run them once workers free up")
+    void shouldSweepJobsRejectedBySaturatedPool() {
+        DeploymentJobDto running = deploymentService.deployReleaseSet(SRID, "SET-0", request);
+        await().atMost(TIMEOUT).until(() -> status(running.getId()) == DeploymentJob.Status.RUNNING);
+        DeploymentJobDto waiting = deploymentService.deployReleaseSet(SRID, "SET-1", request);
+        DeploymentJobDto overflow = deploymentService.deployReleaseSet(SRID, "SET-2", request);
+
+        assertThat(status(overflow.getId())).isEqualTo(DeploymentJob.Status.QUEUED);
+
+        executor.open();
+
+        await().atMost(TIMEOUT).until(() -> deploymentJobRepository.findAll().stream()
+                .allMatch(job -> job.getStatus() == DeploymentJob.Status.SUCCEEDED));
+        assertThat(deploymentJobRepository.findAll()).extracting(DeploymentJob::getId)
+                .containsExactlyInAnyOrder(running.getId(), waiting.getId(), overflow.getId());
+    }
+
+    @Test
+    @DisplayName("should fail a job running past the timeout and ignore its late completion")
+    void shouldTimeOutStaleRunningJobs() {
+        DeploymentJobDto stale = deploymentService.deployRelease(SRID, "REL-1", request);
+        await().atMost(TIMEOUT).until(() -> status(stale.getId()) == DeploymentJob.Status.RUNNING);
+        jdbcTemplate.update("UPDATE deployment_jobs SET updated_at = ? WHERE id = ?",
+                LocalDateTime.now().minusHours(1), stale.getId());
+
+        deploymentWorker.sweep();
+
+        assertThat(status(stale.getId())).isEqualTo(DeploymentJob.Status.FAILED);
+        assertThat(releaseRepository.findByReleaseIdAndSrid("REL-1", SRID).orElseThrow().getStatus())
+                .isEqualTo(ReleaseStatus.DEPLOY_FAILED);
+        DeploymentJobDto retry = deploymentService.deployRelease(SRID, "REL-1", request);
+        assertThat(retry.getId()).isNotEqualTo(stale.getId());
+
+        executor.open();
+
+        await().atMost(TIMEOUT).until(() -> status(retry.getId()) == DeploymentJob.Status.SUCCEEDED);
+        assertThat(status(stale.getId())).isEqualTo(DeploymentJob.Status.FAILED);
+    }
+
+    @Test
+    @DisplayName("should reject a second active job for the same target")
+    void shouldEnforceOneActiveJobPerTarget() {
+        deploymentService.deployRelease(SRID, "REL-1", request);
+
+        assertThatThrownBy(() -> deploymentJobRepository.saveAndFlush(DeploymentJob.builder()
+                .srid(SRID)
+                .targetType(DeploymentJob.TargetType.RELEASE)
+                .targetId("REL-1")
+                .status(DeploymentJob.Status.QUEUED)
+                .activeTarget(SRID + ":RELEASE:REL-1")
+                .build()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private DeploymentJob.Status status(String jobId) {
+        return deploymentJobRepository.findById(jobId).orElseThrow().getStatus();
+    }
+
+    private ReleaseSet releaseSet(String setId) {
+        return releaseSetRepository.findBySetIdAndReleaseSrid(setId, SRID).orElseThrow();
+    }
+
+    /**
+     * Blocks deployments until the gate is opened, optionally failing them.
+     */
+    static class GatedDeploymentExecutor implements DeploymentExecutor {
+
+        private volatile CountDownLatch gate = new CountDownLatch(1);
+        private volatile RuntimeException failure;
+
+        void close() {
+            gate = new CountDownLatch(1);
+            failure = null;
+        }
+
+        void open() {
+            gate.countDown();
+        }
+
+        void failWith(RuntimeException exception) {
+            failure = exception;
+        }
+
+        @Override
+        public void deploy(DeploymentJob job) throws InterruptedException {
+            if (!gate.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("Gate not opened");
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    @TestConfiguration
+    @EnableScheduling
+    static class GatedExecutorConfig {
+
+        @Bean
+        @Primary
+        GatedDeploymentExecutor gatedDeploymentExecutor() {
+            return new GatedDeploymentExecutor();
+        }
+    }
+}
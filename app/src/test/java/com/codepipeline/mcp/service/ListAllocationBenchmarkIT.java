@@ -0,0 +1,134 @@
+package com.codepipeline.mcp.service;
+
+import com.codepipeline.mcp.dto.AssignmentDto;
+import com.codepipeline.mcp.dto.AssignmentFilter;
+import com.codepipeline.mcp.model.Assignment;
+import com.codepipeline.mcp.model.AssignmentStatus;
+import com.codepipeline.mcp.model.Task;
+import com.codepipeline.mcp.repository.AssignmentRepository;
+import com.codepipeline.mcp.repository.AssignmentSpecifications;
+import com.codepipeline.mcp.repository.FilterSpecifications;
+import com.codepipeline.mcp.repository.ListProjectionRepository;
+import com.codepipeline.mcp.repository.TaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares heap allocated per assignment list request for the previous entity-based page (hydrate
+ * {@link Assignment} entities, then copy them with {@link AssignmentDto#fromEntity}) and the current
+ * projection-based page ({@link AssignmentService#getAssignments}), both loading the page's tasks with one
+ * IN query.
+ *
+ * <p>Runs on H2 with {@code benchmark.pages} pages of {@code benchmark.pageSize} assignments. Run with
+ * {@code mvn verify -Dit.test=ListAllocationBenchmarkIT}.</p>
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import({AssignmentService.class, ParentLookupService.class, ListProjectionRepository.class,
+        SimpleMeterRegistry.class})
+@DisplayName("List Allocation Benchmark")
+@Slf4j
+class ListAllocationBenchmarkIT {
+
+    private static final String SRID = "SRID1";
+    private static final int PAGE_SIZE = Integer.getInteger("benchmark.pageSize", 100);
+    private static final int PAGES = Integer.getInteger("benchmark.pages", 200);
+    private static final int TASKS_PER_ASSIGNMENT = 3;
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AssignmentService assignmentService;
+
+    @Autowired
+    private AssignmentRepository assignmentRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            Assignment assignment = Assignment.builder()
+                    .assignmentId("ASSIGN-" + i)
+                    .srid(SRID)
+                    .application("APP1")
+                    .stream("STREAM1")
+                    .owner("owner" + i)
+                    .status(AssignmentStatus.OPEN)
+                    .level("DEV")
+                    .build();
+            for (int j = 0; j < TASKS_PER_ASSIGNMENT; j++) {
+                assignment.addTask(Task.builder().taskId("TASK-" + j).componentName("PROG" + j).build());
+            }
+            entityManager.persist(assignment);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("projected list pages should allocate less than entity-based pages")
+    void compareAllocationPerRequest() {
+        long entityBytes = bytesPerRequest(() -> entityPage());
+        long projectionBytes = bytesPerRequest(() -> projectionPage());
+
+        log.info("Allocated bytes per list request ({} assignments x {} tasks, {} requests)",
+                PAGE_SIZE, TASKS_PER_ASSIGNMENT, PAGES);
+        log.info("Entities + fromEntity: {}", entityBytes);
+        log.info("Tuple projection: {}", projectionBytes);
+
+        assertThat(projectionBytes).isLessThan(entityBytes);
+    }
+
+    private List<AssignmentDto> entityPage() {
+        List<Assignment> assignments = assignmentRepository.findBy(
+                AssignmentSpecifications.matching(SRID, new AssignmentFilter()),
+                query -> query.sortBy(FilterSpecifications.KEYSET_ORDER).limit(PAGE_SIZE + 1).all());
+        Map<String, List<Task>> tasks = taskRepository.findByAssignmentIn(assignments).stream()
+                .collect(Collectors.groupingBy(task -> task.getAssignment().getId()));
+        return assignments.stream()
+                .map(assignment -> AssignmentDto.fromEntity(assignment, tasks.getOrDefault(assignment.getId(), List.of())))
+                .toList();
+    }
+
+    private List<AssignmentDto> projectionPage() {
+        return assignmentService.getAssignments(
+                SRID, new AssignmentFilter(), null, AssignmentService.INCLUDE_TASKS, null, PAGE_SIZE).getItems();
+    }
+
+    private long bytesPerRequest(Runnable request) {
+        for (int i = 0; i < PAGES / 4; i++) {
+            request.run();
+            entityManager.clear();
+        }
+        long total = 0;
+        for (int i = 0; i < PAGES; i++) {
+            long before = threads.getCurrentThreadAllocatedBytes();
+            request.run();
+            total += threads.getCurrentThreadAllocatedBytes() - before;
+            entityManager.clear();
+        }
+        return total / PAGES;
+    }
+}
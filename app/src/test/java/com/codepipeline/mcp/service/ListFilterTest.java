@@ -0,0 +1,174 @@
+package com.codepipeline.mcp.service;
+
+import com.codepipeline.mcp.dto.AssignmentDto;
+import com.codepipeline.mcp.dto.AssignmentFilter;
+import com.codepipeline.mcp.dto.CursorPage;
+import com.codepipeline.mcp.dto.ReleaseDto;
+import com.codepipeline.mcp.dto.ReleaseFilter;
+import com.codepipeline.mcp.model.Assignment;
+import com.codepipeline.mcp.model.AssignmentStatus;
+import com.codepipeline.mcp.model.Release;
+import com.codepipeline.mcp.model.ReleaseStatus;
+import com.codepipeline.mcp.repository.ListProjectionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the Specification-based list filters: each filter restricts the result, filters combine, keyset
+ * pages stay stable under a filter, and the SQL carries only the predicates that were set.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.codepipeline.mcp.service.ListFilterTest$CapturingStatementInspector"
+})
+@Import({AssignmentService.class, ReleaseService.class, ParentLookupService.class, ListProjectionRepository.class,
+        SimpleMeterRegistry.class})
+@DisplayName("List Filter Tests")
+class ListFilterTest {
+
+    private static final String SRID = "SRID1";
+    private static final int COUNT = 12;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AssignmentService assignmentService;
+
+    @Autowired
+    private ReleaseService releaseService;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < COUNT; i++) {
+            entityManager.persist(Assignment.builder()
+                    .assignmentId("ASSIGN-" + i)
+                    .srid(SRID)
+                    .application(i % 2 == 0 ? "APP1" : "APP2")
+                    .status(i % 3 == 0 ? AssignmentStatus.OPEN : AssignmentStatus.CLOSED)
+                    .owner(i < 4 ? "alice" : "bob")
+                    .stream("STREAM" + (i % 2))
+                    .level(i % 4 == 0 ? "DEV" : "QA")
+                    .build());
+            entityManager.persist(Release.builder()
+                    .releaseId("REL-" + i)
+                    .srid(SRID)
+                    .application("APP1")
+                    .status(i % 2 == 0 ? ReleaseStatus.OPEN : ReleaseStatus.DEPLOYED)
+                    .owner(i < 6 ? "alice" : "bob")
+                    .build());
+        }
+        entityManager.persist(Assignment.builder().assignmentId("OTHER-1").srid("OTHER").owner("alice").build());
+        entityManager.flush();
+        entityManager.clear();
+        CapturingStatementInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    @DisplayName("should return every assignment of the SRID without filters")
+    void shouldListAllWithoutFilters() {
+        assertThat(assignmentIds(new AssignmentFilter())).hasSize(COUNT);
+    }
+
+    @Test
+    @DisplayName("should combine owner, stream, level and status filters")
+    void shouldCombineFilters() {
+        assertThat(assignmentIds(AssignmentFilter.builder().owner("alice").build()))
+                .containsExactlyInAnyOrder("ASSIGN-0", "ASSIGN-1", "ASSIGN-2", "ASSIGN-3");
+        assertThat(assignmentIds(AssignmentFilter.builder().owner("alice").stream("STREAM0").build()))
+                .containsExactlyInAnyOrder("ASSIGN-0", "ASSIGN-2");
+        assertThat(assignmentIds(AssignmentFilter.builder().level("DEV").status(AssignmentStatus.OPEN).build()))
+                .containsExactlyInAnyOrder("ASSIGN-0");
+        assertThat(assignmentIds(AssignmentFilter.builder().application("APP2").status(AssignmentStatus.OPEN).build()))
+                .containsExactlyInAnyOrder("ASSIGN-3", "ASSIGN-9");
+    }
+
+    @Test
+    @DisplayName("should treat blank string filters as absent")
+    void shouldIgnoreBlankFilters() {
+        assertThat(assignmentIds(AssignmentFilter.builder().application("").owner(" ").build())).hasSize(COUNT);
+    }
+
+    @Test
+    @DisplayName("should restrict by a half-open creation date range")
+    void shouldFilterByCreatedRange() {
+        LocalDateTime future = LocalDateTime.now().plusDays(1);
+
+        assertThat(assignmentIds(AssignmentFilter.builder().createdTo(future).build())).hasSize(COUNT);
+        assertThat(assignmentIds(AssignmentFilter.builder().createdFrom(future).build())).isEmpty();
+        assertThat(releaseIds(ReleaseFilter.builder().createdFrom(future.minusDays(2)).createdTo(future).build()))
+                .hasSize(COUNT);
+    }
+
+    @Test
+    @DisplayName("should filter releases by owner and status")
+    void shouldFilterReleases() {
+        assertThat(releaseIds(ReleaseFilter.builder().owner("bob").status(ReleaseStatus.OPEN).build()))
+                .containsExactlyInAnyOrder("REL-6", "REL-8", "REL-10");
+    }
+
+    @Test
+    @DisplayName("should page through a filtered list without gaps or repeats")
+    void shouldPageFilteredList() {
+        AssignmentFilter filter = AssignmentFilter.builder().status(AssignmentStatus.CLOSED).build();
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+
+        do {
+            CursorPage<AssignmentDto> page = assignmentService.getAssignments(SRID, filter, null, null, cursor, 3);
+            page.getItems().forEach(assignment -> seen.add(assignment.getAssignmentId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(seen).hasSize(8).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("should only emit the predicates of the filters that are set")
+    void shouldEmitOnlyPresentPredicates() {
+        assignmentIds(AssignmentFilter.builder().status(AssignmentStatus.OPEN).build());
+
+        String sql = CapturingStatementInspector.STATEMENTS.get(0).toLowerCase();
+        assertThat(sql).contains("status=?").doesNotContain("is null")
+                .doesNotContain("owner=?").doesNotContain("application=?").doesNotContain("level=?");
+    }
+
+    private List<String> assignmentIds(AssignmentFilter filter) {
+        return assignmentService.getAssignments(SRID, filter, null, null, null, 100).getItems().stream()
+                .map(AssignmentDto::getAssignmentId)
+                .toList();
+    }
+
+    private List<String> releaseIds(ReleaseFilter filter) {
+        return releaseService.getReleases(SRID, filter, null, null, 100).getItems().stream()
+                .map(ReleaseDto::getReleaseId)
+                .toList();
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
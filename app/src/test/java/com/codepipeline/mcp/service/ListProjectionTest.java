@@ -0,0 +1,152 @@
+package com.codepipeline.mcp.service;
+
+import com.codepipeline.mcp.dto.AssignmentDto;
+import com.codepipeline.mcp.dto.AssignmentFilter;
+import com.codepipeline.mcp.dto.ReleaseDto;
+import com.codepipeline.mcp.dto.ReleaseFilter;
+import com.codepipeline.mcp.exception.BusinessException;
+import com.codepipeline.mcp.model.Assignment;
+import com.codepipeline.mcp.model.AssignmentStatus;
+import com.codepipeline.mcp.model.Release;
+import com.codepipeline.mcp.model.ReleaseSet;
+import com.codepipeline.mcp.model.ReleaseStatus;
+import com.codepipeline.mcp.model.Task;
+import com.codepipeline.mcp.repository.ListProjectionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.EntityKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import({AssignmentService.class, ReleaseService.class, ParentLookupService.class, ListProjectionRepository.class,
+        SimpleMeterRegistry.class})
+@DisplayName("List Projection Tests")
+class ListProjectionTest {
+
+    private static final String SRID = "SRID1";
+    private static final int COUNT = 5;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AssignmentService assignmentService;
+
+    @Autowired
+    private ReleaseService releaseService;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < COUNT; i++) {
+            Assignment assignment = Assignment.builder()
+                    .assignmentId("ASSIGN-" + i)
+                    .srid(SRID)
+                    .application("APP1")
+                    .owner("alice")
+                    .status(AssignmentStatus.OPEN)
+                    .build();
+            assignment.addTask(Task.builder().taskId("TASK-A").build());
+            assignment.addTask(Task.builder().taskId("TASK-B").build());
+            entityManager.persist(assignment);
+
+            Release release = Release.builder()
+                    .releaseId("REL-" + i)
+                    .srid(SRID)
+                    .description("Release " + i)
+                    .status(ReleaseStatus.OPEN)
+                    .build();
+            release.addSet(ReleaseSet.builder().setId("SET-" + i).build());
+            entityManager.persist(release);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("should map every list field without hydrating assignment entities")
+    void shouldProjectAssignmentsWithoutEntities() {
+        List<AssignmentDto> assignments = assignmentService.getAssignments(
+                SRID, new AssignmentFilter(), null, AssignmentService.INCLUDE_TASKS, null, 100).getItems();
+
+        assertThat(assignments).hasSize(COUNT).allSatisfy(assignment -> {
+            assertThat(assignment.getId()).isNotNull();
+            assertThat(assignment.getSrid()).isEqualTo(SRID);
+            assertThat(assignment.getOwner()).isEqualTo("alice");
+            assertThat(assignment.getStatus()).isEqualTo(AssignmentStatus.OPEN);
+            assertThat(assignment.getCreatedAt()).isNotNull();
+            assertThat(assignment.getTasks()).hasSize(2);
+        });
+        assertThat(managedEntities(Assignment.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("should select only the requested fields plus the keyset fields")
+    void shouldSelectRequestedFields() {
+        List<AssignmentDto> assignments =
+                assignmentService.getAssignments(SRID, new AssignmentFilter(), "assignmentId, status", null, null, 100)
+                        .getItems();
+
+        assertThat(assignments).hasSize(COUNT).allSatisfy(assignment -> {
+            assertThat(assignment.getAssignmentId()).startsWith("ASSIGN-");
+            assertThat(assignment.getStatus()).isEqualTo(AssignmentStatus.OPEN);
+            assertThat(assignment.getId()).isNotNull();
+            assertThat(assignment.getCreatedAt()).isNotNull();
+            assertThat(assignment.getOwner()).isNull();
+            assertThat(assignment.getApplication()).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("should page releases with selected fields and their sets")
+    void shouldProjectReleases() {
+        List<ReleaseDto> releases = releaseService.getReleases(
+                SRID, new ReleaseFilter(), "releaseId," + ReleaseService.FIELD_SETS, null, 2).getItems();
+
+        assertThat(releases).hasSize(2).allSatisfy(release -> {
+            assertThat(release.getReleaseId()).startsWith("REL-");
+            assertThat(release.getDescription()).isNull();
+            assertThat(release.getSets()).hasSize(1);
+        });
+        assertThat(managedEntities(Release.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("should not load release sets unless the selected fields include them")
+    void shouldSkipUnselectedSets() {
+        List<ReleaseDto> releases =
+                releaseService.getReleases(SRID, new ReleaseFilter(), "releaseId", null, 2).getItems();
+
+        assertThat(releases).hasSize(2).allSatisfy(release -> assertThat(release.getSets()).isNull());
+        assertThat(managedEntities(ReleaseSet.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("should reject an unknown field")
+    void shouldRejectUnknownField() {
+        assertThatThrownBy(() ->
+                assignmentService.getAssignments(SRID, new AssignmentFilter(), "owner,tasks", null, null, 10))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("tasks");
+    }
+
+    private long managedEntities(Class<?> type) {
+        return entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityKeys().stream()
+                .map(key -> ((EntityKey) key).getEntityName())
+                .filter(type.getName()::equals)
+                .count();
+    }
+}
@@ -33,7 +33,6 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
-import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("Message Service Unit Tests")
@@ -448,7 +447,7 @@ class MessageServiceTest {
         @DisplayName("should throw exception when message not found")
         void shouldThrowExceptionWhenMessageNotFound() {
             // Given
-            String nonExistentId = "non-existent-id";
+            String nonExistentId = UUID.randomUUID().toString();
             when(messageRepository.findById(nonExistentId)).thenReturn(Optional.empty());
             
             // When/Then
@@ -460,6 +459,20 @@ class MessageServiceTest {
             verifyNoMoreInteractions(messageRepository);
         }
         
+        @Test
+        @DisplayName("should report a malformed id as not found without querying")
+        void shouldRejectMalformedIdWithoutQuerying() {
+            // Given
+            String malformedId = "non-existent-id";
+            
+            // When/Then
+            assertThatThrownBy(() -> messageService.findById(malformedId))
+                    .isInstanceOf(ResourceNotFoundException.class)
+                    .hasMessageContaining("Message not found with id: '" + malformedId + "'");
+            
+            verifyNoInteractions(messageRepository);
+        }
+        
         @Test
         @DisplayName("should find messages by sender")
         void shouldFindMessagesBySender() {
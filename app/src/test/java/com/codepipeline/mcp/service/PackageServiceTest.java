@@ -0,0 +1,121 @@
+package com.codepipeline.mcp.service;
+
+import com.codepipeline.mcp.dto.CursorPage;
+import com.codepipeline.mcp.dto.PackageDto;
+import com.codepipeline.mcp.exception.BusinessException;
+import com.codepipeline.mcp.model.IspwPackage;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import(PackageService.class)
+@DisplayName("Package Service Tests")
+class PackageServiceTest {
+
+    private static final String SRID = "SRID1";
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PackageService packageService;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 30; i++) {
+            entityManager.persist(IspwPackage.builder()
+                    .packageId("PKG-" + i)
+                    .srid(SRID)
+                    .application(i % 2 == 0 ? "APP1" : "APP2")
+                    .status(i % 3 == 0 ? "OPEN" : "CLOSED")
+                    .build());
+        }
+        entityManager.persist(IspwPackage.builder().packageId("PKG-0").srid("OTHER").status("OPEN").build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("should page through packages filtered by status")
+    void shouldPageByStatus() {
+        List<PackageDto> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<PackageDto> page = packageService.getPackages(SRID, null, null, "OPEN", cursor, 4);
+            seen.addAll(page.getItems());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(seen).hasSize(10);
+        assertThat(seen).allMatch(p -> p.getStatus().equals("OPEN") && p.getSrid().equals(SRID));
+        assertThat(seen).extracting(PackageDto::getPackageId).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("should combine status and application filters")
+    void shouldFilterByStatusAndApplication() {
+        CursorPage<PackageDto> page = packageService.getPackages(SRID, null, "APP1", "OPEN", null, 50);
+
+        assertThat(page.getItems()).hasSize(5);
+        assertThat(page.isHasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should look up a single package by package ID filter")
+    void shouldFilterByPackageId() {
+        CursorPage<PackageDto> page = packageService.getPackages(SRID, "PKG-7", null, null, null, 50);
+
+        assertThat(page.getItems()).extracting(PackageDto::getPackageId).containsExactly("PKG-7");
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("should read packages without managing entities")
+    void shouldProjectWithoutManagedEntities() {
+        packageService.getPackages(SRID, null, null, null, null, 50);
+        packageService.getPackage(SRID, "PKG-1");
+
+        Session session = entityManager.getEntityManager().unwrap(Session.class);
+        assertThat(session.getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("should bump the version only when a field changes")
+    void shouldVersionUpdates() {
+        PackageDto current = packageService.getPackage(SRID, "PKG-1");
+
+        PackageDto unchanged = packageService.updatePackage(SRID, "PKG-1", current);
+        current.setStatus("PROMOTED");
+        PackageDto changed = packageService.updatePackage(SRID, "PKG-1", current);
+
+        assertThat(unchanged.getVersion()).isEqualTo(current.getVersion());
+        assertThat(changed.getVersion()).isGreaterThan(current.getVersion());
+        assertThat(changed.getStatus()).isEqualTo("PROMOTED");
+    }
+
+    @Test
+    @DisplayName("should reject a duplicate package ID within the same SRID")
+    void shouldRejectDuplicatePackage() {
+        PackageDto duplicate = PackageDto.builder().packageId("PKG-1").build();
+
+        assertThatThrownBy(() -> packageService.createPackage(SRID, duplicate))
+                .isInstanceOf(BusinessException.class);
+        assertThat(packageService.createPackage("OTHER", PackageDto.builder().packageId("PKG-1").build())
+                .getSrid()).isEqualTo("OTHER");
+    }
+}
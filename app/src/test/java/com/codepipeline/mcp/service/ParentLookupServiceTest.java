@@ -0,0 +1,222 @@
+package com.codepipeline.mcp.service;
+
+import com.codepipeline.mcp.config.CacheConfig;
+import com.codepipeline.mcp.dto.ReleaseSetDto;
+import com.codepipeline.mcp.dto.TaskDto;
+import com.codepipeline.mcp.exception.ResourceNotFoundException;
+import com.codepipeline.mcp.model.Assignment;
+import com.codepipeline.mcp.model.Release;
+import com.codepipeline.mcp.model.Task;
+import com.codepipeline.mcp.model.TaskStatus;
+import com.codepipeline.mcp.repository.AssignmentRepository;
+import com.codepipeline.mcp.repository.ListProjectionRepository;
+import com.codepipeline.mcp.repository.ReleaseRepository;
+import com.codepipeline.mcp.repository.ReleaseSetRepository;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Exercises the business-key caches through the services that use them. Test methods are not
+ * transactional so that evictions, which are deferred until commit, take effect.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({CacheConfig.class, ParentLookupService.class, ParentLookupEvictionListener.class, TaskService.class,
+        AssignmentService.class, ReleaseService.class, ReleaseSetService.class, ListProjectionRepository.class,
+        SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Parent Lookup Cache Tests")
+class ParentLookupServiceTest {
+
+    private static final String SRID = "SRID1";
+    private static final String ASSIGNMENT_ID = "ASSIGN-1";
+    private static final String RELEASE_ID = "REL-1";
+
+    @Autowired
+    private AssignmentRepository assignmentRepository;
+
+    @Autowired
+    private ReleaseRepository releaseRepository;
+
+    @Autowired
+    private ReleaseSetRepository releaseSetRepository;
+
+    @Autowired
+    private ParentLookupService parentLookupService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private AssignmentService assignmentService;
+
+    @Autowired
+    private ReleaseService releaseService;
+
+    @Autowired
+    private ReleaseSetService releaseSetService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+    private Map<String, CacheStats> baselineStats;
+
+    @BeforeEach
+    void setUp() {
+        Assignment assignment = Assignment.builder()
+                .assignmentId(ASSIGNMENT_ID)
+                .srid(SRID)
+                .build();
+        assignment.addTask(Task.builder().taskId("TASK-1").status(TaskStatus.OPEN).build());
+        assignmentRepository.save(assignment);
+        releaseRepository.save(Release.builder()
+                .releaseId(RELEASE_ID)
+                .srid(SRID)
+                .build());
+
+        baselineStats = new HashMap<>();
+        cacheManager.getCacheNames().forEach(name -> {
+            nativeCache(name).invalidateAll();
+            baselineStats.put(name, nativeCache(name).stats());
+        });
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        assignmentRepository.deleteAll();
+        releaseRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("should look the assignment up once for repeated task calls")
+    void shouldResolveAssignmentOnce() {
+        for (int i = 2; i < 5; i++) {
+            taskService.createTask(SRID, ASSIGNMENT_ID, TaskDto.builder().taskId("TASK-" + i).status(TaskStatus.OPEN).build());
+        }
+
+        // one assignment lookup, then a duplicate check and an insert per call
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(7);
+        CacheStats stats = statsSinceSetUp(ParentLookupService.ASSIGNMENT_KEYS);
+        assertThat(stats.missCount()).isEqualTo(1);
+        assertThat(stats.hitCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should key entries by SRID and business id")
+    void shouldKeyBySridAndBusinessId() {
+        assertThat(parentLookupService.findAssignmentKey(SRID, ASSIGNMENT_ID)).isPresent();
+
+        assertThatThrownBy(() -> taskService.getTask("OTHER", ASSIGNMENT_ID, "TASK-1"))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("should not cache unknown parents")
+    void shouldNotCacheMisses() {
+        assertThat(parentLookupService.findAssignmentKey(SRID, "ASSIGN-2")).isEmpty();
+
+        assignmentRepository.save(Assignment.builder().assignmentId("ASSIGN-2").srid(SRID).build());
+
+        assertThat(parentLookupService.findAssignmentKey(SRID, "ASSIGN-2")).isPresent();
+    }
+
+    @Test
+    @DisplayName("should evict the assignment when it is deleted")
+    void shouldEvictDeletedAssignment() {
+        parentLookupService.findAssignmentKey(SRID, ASSIGNMENT_ID);
+        assertThat(nativeCache(ParentLookupService.ASSIGNMENT_KEYS).estimatedSize()).isEqualTo(1);
+
+        assignmentService.deleteAssignment(SRID, ASSIGNMENT_ID);
+
+        assertThat(nativeCache(ParentLookupService.ASSIGNMENT_KEYS).estimatedSize()).isZero();
+        assertThatThrownBy(() -> taskService.getTask(SRID, ASSIGNMENT_ID, "TASK-1"))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("Assignment not found");
+    }
+
+    @Test
+    @DisplayName("should keep the assignment cached when its delete rolls back")
+    void shouldKeepAssignmentWhenDeleteRollsBack() {
+        parentLookupService.findAssignmentKey(SRID, ASSIGNMENT_ID);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            assignmentService.deleteAssignment(SRID, ASSIGNMENT_ID);
+            assertThat(nativeCache(ParentLookupService.ASSIGNMENT_KEYS).estimatedSize()).isEqualTo(1);
+            status.setRollbackOnly();
+        });
+
+        assertThat(nativeCache(ParentLookupService.ASSIGNMENT_KEYS).estimatedSize()).isEqualTo(1);
+        assertThat(taskService.getTask(SRID, ASSIGNMENT_ID, "TASK-1").getTaskId()).isEqualTo("TASK-1");
+    }
+
+    @Test
+    @DisplayName("should attach new children through the cached key without loading the parent")
+    void shouldCreateChildrenThroughCachedKey() {
+        taskService.createTask(SRID, ASSIGNMENT_ID, TaskDto.builder().taskId("TASK-2").status(TaskStatus.OPEN).build());
+        releaseSetService.createReleaseSet(SRID, RELEASE_ID, ReleaseSetDto.builder().setId("SET-1").build());
+        releaseSetService.createReleaseSet(SRID, RELEASE_ID, ReleaseSetDto.builder().setId("SET-2").build());
+
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statsSinceSetUp(ParentLookupService.RELEASE_KEYS).hitCount()).isEqualTo(1);
+        assertThat(taskService.getTask(SRID, ASSIGNMENT_ID, "TASK-2").getTaskId()).isEqualTo("TASK-2");
+        assertThat(releaseSetRepository.findBySetIdAndReleaseSrid("SET-2", SRID)).isPresent();
+    }
+
+    @Test
+    @DisplayName("should evict the release when it is deleted")
+    void shouldEvictDeletedRelease() {
+        assertThat(parentLookupService.findReleaseKey(SRID, RELEASE_ID)).isPresent();
+
+        releaseService.deleteRelease(SRID, RELEASE_ID);
+
+        assertThat(nativeCache(ParentLookupService.RELEASE_KEYS).estimatedSize()).isZero();
+        ReleaseSetDto releaseSet = ReleaseSetDto.builder().setId("SET-1").build();
+        assertThatThrownBy(() -> releaseSetService.createReleaseSet(SRID, RELEASE_ID, releaseSet))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("Release not found");
+    }
+
+    private CacheStats statsSinceSetUp(String name) {
+        return nativeCache(name).stats().minus(baselineStats.get(name));
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache(String name) {
+        TransactionAwareCacheDecorator decorator = (TransactionAwareCacheDecorator) cacheManager.getCache(name);
+        return ((CaffeineCache) decorator.getTargetCache()).getNativeCache();
+    }
+}
@@ -0,0 +1,126 @@
+package com.codepipeline.mcp.service;
+
+import com.codepipeline.mcp.dto.PresenceDigestDto;
+import com.codepipeline.mcp.dto.PresenceSnapshotDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@DisplayName("Presence Service Tests")
+class PresenceServiceTest {
+
+    private final SimpMessageSendingOperations messagingTemplate = mock(SimpMessageSendingOperations.class);
+    private final PresenceService presenceService = new PresenceService(messagingTemplate);
+
+    @Test
+    @DisplayName("should send one digest for a burst of connects")
+    void shouldCoalesceConnects() {
+        presenceService.connected("s1", "alice");
+        presenceService.connected("s2", "bob");
+        presenceService.connected("s3", "alice");
+
+        presenceService.publishDigest();
+
+        PresenceDigestDto digest = captureDigest();
+        assertThat(digest.getJoined()).containsExactly("alice", "bob");
+        assertThat(digest.getLeft()).isEmpty();
+        assertThat(digest.getOnlineCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should keep a user online until their last session disconnects")
+    void shouldTrackSessionsPerUser() {
+        presenceService.connected("s1", "alice");
+        presenceService.connected("s2", "alice");
+        presenceService.publishDigest();
+        clearInvocations(messagingTemplate);
+
+        presenceService.disconnected("s1");
+        presenceService.publishDigest();
+        verifyNoInteractions(messagingTemplate);
+
+        presenceService.disconnected("s2");
+        presenceService.disconnected("s2");
+        presenceService.publishDigest();
+
+        PresenceDigestDto digest = captureDigest();
+        assertThat(digest.getJoined()).isEmpty();
+        assertThat(digest.getLeft()).containsExactly("alice");
+        assertThat(digest.getOnlineCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("should send nothing for a user who reconnected within the interval")
+    void shouldCancelOutReconnects() {
+        presenceService.connected("s1", "alice");
+        presenceService.publishDigest();
+        clearInvocations(messagingTemplate);
+
+        presenceService.disconnected("s1");
+        presenceService.connected("s2", "alice");
+        presenceService.publishDigest();
+
+        verifyNoInteractions(messagingTemplate);
+    }
+
+    @Test
+    @DisplayName("should include unsent changes in the next digest when publishing fails")
+    void shouldRetryFailedDigest() {
+        presenceService.connected("s1", "alice");
+        doThrow(new MessageDeliveryException("broker unavailable"))
+                .when(messagingTemplate).convertAndSend(eq(PresenceService.PRESENCE_TOPIC), any(Object.class));
+        presenceService.publishDigest();
+
+        reset(messagingTemplate);
+        presenceService.connected("s2", "bob");
+        presenceService.publishDigest();
+
+        assertThat(captureDigest().getJoined()).containsExactly("alice", "bob");
+    }
+
+    @Test
+    @DisplayName("should return the users and sessions currently connected")
+    void shouldReturnSnapshot() {
+        presenceService.connected("s1", "bob");
+        presenceService.connected("s2", "alice");
+        presenceService.connected("s3", "alice");
+
+        PresenceSnapshotDto snapshot = presenceService.getSnapshot();
+
+        assertThat(snapshot.getUsers()).containsExactly("alice", "bob");
+        assertThat(snapshot.getSessionCount()).isEqualTo(3);
+        assertThat(snapshot.getInstanceId()).isEqualTo(presenceService.getInstanceId());
+    }
+
+    @Test
+    @DisplayName("should tag digests with the instance so replicas sharing the topic can be told apart")
+    void shouldTagDigestsWithInstance() {
+        PresenceService otherInstance = new PresenceService(messagingTemplate);
+        presenceService.connected("s1", "alice");
+
+        presenceService.publishDigest();
+
+        assertThat(captureDigest().getInstanceId())
+                .isEqualTo(presenceService.getInstanceId())
+                .isNotEqualTo(otherInstance.getInstanceId());
+    }
+
+    private PresenceDigestDto captureDigest() {
+        ArgumentCaptor<PresenceDigestDto> captor = ArgumentCaptor.forClass(PresenceDigestDto.class);
+        verify(messagingTemplate, times(1)).convertAndSend(eq(PresenceService.PRESENCE_TOPIC), captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,148 @@
+package com.codepipeline.mcp.service;
+
+import com.codepipeline.mcp.dto.ReleaseDto;
+import com.codepipeline.mcp.dto.ReleaseSetDto;
+import com.codepipeline.mcp.model.DeploymentStatus;
+import com.codepipeline.mcp.model.Release;
+import com.codepipeline.mcp.model.ReleaseSet;
+import com.codepipeline.mcp.model.ReleaseStatus;
+import com.codepipeline.mcp.repository.ListProjectionRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({ReleaseService.class, ParentLookupService.class, ListProjectionRepository.class, SimpleMeterRegistry.class})
+@DisplayName("Release Service Set Merge Tests")
+class ReleaseServiceMergeTest {
+
+    private static final String SRID = "SRID1";
+    private static final String RELEASE_ID = "REL-1";
+    private static final int SET_COUNT = 50;
+    private static final LocalDateTime DEPLOYED_AT = LocalDateTime.of(2024, 1, 15, 10, 30);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ReleaseService releaseService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+    private ReleaseDto current;
+
+    @BeforeEach
+    void setUp() {
+        Release release = Release.builder()
+                .releaseId(RELEASE_ID)
+                .srid(SRID)
+                .application("APP1")
+                .status(ReleaseStatus.OPEN)
+                .build();
+        for (int i = 0; i < SET_COUNT; i++) {
+            release.addSet(ReleaseSet.builder()
+                    .setId("SET-" + i)
+                    .status(ReleaseStatus.OPEN)
+                    .deployedAt(DEPLOYED_AT)
+                    .build());
+        }
+        entityManager.persist(release);
+        entityManager.flush();
+        entityManager.clear();
+
+        current = releaseService.getRelease(SRID, RELEASE_ID);
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+        meterRegistry.clear();
+    }
+
+    @Test
+    @DisplayName("should write a single row when one field of one set changes")
+    void shouldUpdateOnlyChangedSet() {
+        current.getSets().stream()
+                .filter(set -> set.getSetId().equals("SET-7"))
+                .findFirst()
+                .orElseThrow()
+                .setDeploymentStatus(DeploymentStatus.COMPLETE);
+
+        releaseService.updateRelease(SRID, RELEASE_ID, current);
+        entityManager.flush();
+
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isZero();
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+        assertThat(rowsWritten().totalAmount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should keep creation and deployment history of untouched sets")
+    void shouldPreserveHistoryOfMatchedSets() {
+        Map<String, ReleaseSetDto> before = bySetId(current.getSets());
+        current.getSets().forEach(set -> set.setDeployedAt(null));
+        current.getSets().add(ReleaseSetDto.builder().setId("SET-NEW").status(ReleaseStatus.OPEN).build());
+
+        ReleaseDto updated = releaseService.updateRelease(SRID, RELEASE_ID, current);
+        entityManager.flush();
+
+        Map<String, ReleaseSetDto> after = bySetId(updated.getSets());
+        assertThat(after).hasSize(SET_COUNT + 1);
+        assertThat(after.get("SET-3").getId()).isEqualTo(before.get("SET-3").getId());
+        assertThat(after.get("SET-3").getCreatedAt()).isEqualTo(before.get("SET-3").getCreatedAt());
+        assertThat(after.get("SET-3").getDeployedAt()).isEqualTo(DEPLOYED_AT);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("should record rows written per update")
+    void shouldRecordRowsWrittenPerUpdate() {
+        List<ReleaseSetDto> sets = current.getSets().stream()
+                .filter(set -> !set.getSetId().equals("SET-0"))
+                .collect(Collectors.toList());
+        current.setSets(sets);
+
+        releaseService.updateRelease(SRID, RELEASE_ID, current);
+        releaseService.updateRelease(SRID, RELEASE_ID, current);
+        entityManager.flush();
+
+        assertThat(statistics.getEntityDeleteCount()).isEqualTo(1);
+        assertThat(rowsWritten().count()).isEqualTo(2);
+        assertThat(rowsWritten().totalAmount()).isEqualTo(1);
+        assertThat(rowsWritten().max()).isEqualTo(1);
+    }
+
+    private DistributionSummary rowsWritten() {
+        return meterRegistry.get(ReleaseService.SET_ROWS_WRITTEN_METRIC).summary();
+    }
+
+    private static Map<String, ReleaseSetDto> bySetId(List<ReleaseSetDto> sets) {
+        return sets.stream().collect(Collectors.toMap(ReleaseSetDto::getSetId, Function.identity()));
+    }
+}
@@ -0,0 +1,128 @@
+package com.codepipeline.mcp.service;
+
+import com.codepipeline.mcp.dto.CursorPage;
+import com.codepipeline.mcp.dto.ReleaseDto;
+import com.codepipeline.mcp.dto.ReleaseFilter;
+import com.codepipeline.mcp.model.Release;
+import com.codepipeline.mcp.model.ReleaseSet;
+import com.codepipeline.mcp.model.ReleaseStatus;
+import com.codepipeline.mcp.repository.ListProjectionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies the number of SQL statements issued when listing releases, using Hibernate
+ * statistics against the embedded H2 database.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({ReleaseService.class, ParentLookupService.class, ListProjectionRepository.class, SimpleMeterRegistry.class})
+@DisplayName("Release Service Query Count Tests")
+class ReleaseServiceQueryCountTest {
+
+    private static final String SRID = "SRID1";
+    private static final int RELEASE_COUNT = 25;
+    private static final int SETS_PER_RELEASE = 3;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ReleaseService releaseService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < RELEASE_COUNT; i++) {
+            Release release = Release.builder()
+                    .releaseId("REL-" + i)
+                    .srid(SRID)
+                    .application(i % 2 == 0 ? "APP1" : "APP2")
+                    .status(ReleaseStatus.OPEN)
+                    .build();
+            for (int j = 0; j < SETS_PER_RELEASE; j++) {
+                release.addSet(ReleaseSet.builder()
+                        .setId("SET-" + i + "-" + j)
+                        .status(ReleaseStatus.OPEN)
+                        .build());
+            }
+            entityManager.persist(release);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("should load all releases and their sets in two statements")
+    void shouldLoadReleasesWithSetsInBoundedStatements() {
+        List<ReleaseDto> releases = releaseService.getReleases(SRID, new ReleaseFilter(), null, null, 100).getItems();
+
+        assertThat(releases).hasSize(RELEASE_COUNT);
+        assertThat(releases).allSatisfy(release -> assertThat(release.getSets()).hasSize(SETS_PER_RELEASE));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should keep the statement count bounded when filters are applied")
+    void shouldLoadFilteredReleasesWithSetsInBoundedStatements() {
+        ReleaseFilter filter = ReleaseFilter.builder().application("APP1").build();
+        List<ReleaseDto> releases = releaseService.getReleases(SRID, filter, null, null, 100).getItems();
+
+        assertThat(releases).hasSize((RELEASE_COUNT + 1) / 2);
+        assertThat(releases).allSatisfy(release -> assertThat(release.getSets()).hasSize(SETS_PER_RELEASE));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should issue a single statement when no release matches")
+    void shouldSkipSetQueryWhenNoReleasesMatch() {
+        List<ReleaseDto> releases = releaseService.getReleases("UNKNOWN", new ReleaseFilter(), null, null, 100).getItems();
+
+        assertThat(releases).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should page through releases with a constant number of statements per page")
+    void shouldPageWithConstantStatementsPerPage() {
+        List<ReleaseDto> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+
+        do {
+            statistics.clear();
+            CursorPage<ReleaseDto> page = releaseService.getReleases(SRID, new ReleaseFilter(), null, cursor, 10);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+            seen.addAll(page.getItems());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).hasSize(RELEASE_COUNT);
+        assertThat(new HashSet<>(seen.stream().map(ReleaseDto::getReleaseId).toList())).hasSize(RELEASE_COUNT);
+    }
+}
@@ -0,0 +1,115 @@
+package com.codepipeline.mcp.service;
+
+import com.codepipeline.mcp.dto.TaskBatchResponse;
+import com.codepipeline.mcp.dto.TaskBatchResult;
+import com.codepipeline.mcp.dto.TaskDto;
+import com.codepipeline.mcp.exception.BusinessException;
+import com.codepipeline.mcp.exception.ResourceNotFoundException;
+import com.codepipeline.mcp.model.Assignment;
+import com.codepipeline.mcp.model.Task;
+import com.codepipeline.mcp.model.TaskStatus;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({TaskService.class, ParentLookupService.class})
+@DisplayName("Task Service Batch Tests")
+class TaskServiceBatchTest {
+
+    private static final String SRID = "SRID1";
+    private static final String ASSIGNMENT_ID = "ASSIGN-1";
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskService taskService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Assignment assignment = Assignment.builder()
+                .assignmentId(ASSIGNMENT_ID)
+                .srid(SRID)
+                .build();
+        assignment.addTask(Task.builder().taskId("TASK-0").status(TaskStatus.OPEN).build());
+        assignment.addTask(Task.builder().taskId("TASK-1").status(TaskStatus.OPEN).build());
+        entityManager.persist(assignment);
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("should load 500 tasks with batched inserts and report per-item results")
+    void shouldUpsertLargeBatchWithBoundedStatements() {
+        List<TaskDto> batch = new ArrayList<>();
+        batch.add(TaskDto.builder().taskId("TASK-0").status(TaskStatus.CLOSED).build());
+        for (int i = 2; i < 500; i++) {
+            batch.add(TaskDto.builder().taskId("TASK-" + i).status(TaskStatus.OPEN).build());
+        }
+        batch.add(TaskDto.builder().taskId("TASK-2").status(TaskStatus.OPEN).build());
+        batch.add(TaskDto.builder().status(TaskStatus.OPEN).build());
+
+        TaskBatchResponse response = taskService.upsertTasks(SRID, ASSIGNMENT_ID, batch);
+
+        assertThat(response.getCreated()).isEqualTo(498);
+        assertThat(response.getUpdated()).isEqualTo(1);
+        assertThat(response.getRejected()).isEqualTo(2);
+        assertThat(response.getResults()).hasSize(batch.size());
+        assertThat(response.getResults().get(0).getOutcome()).isEqualTo(TaskBatchResult.Outcome.UPDATED);
+        assertThat(response.getResults().get(0).getTask().getStatus()).isEqualTo(TaskStatus.CLOSED);
+        assertThat(response.getResults().get(499).getOutcome()).isEqualTo(TaskBatchResult.Outcome.REJECTED);
+        assertThat(response.getResults().get(500).getOutcome()).isEqualTo(TaskBatchResult.Outcome.REJECTED);
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(498);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+        // assignment lookup + one IN query + ten insert batches + one update
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("should reject an unknown assignment")
+    void shouldRejectUnknownAssignment() {
+        List<TaskDto> batch = List.of(TaskDto.builder().taskId("TASK-9").build());
+
+        assertThatThrownBy(() -> taskService.upsertTasks(SRID, "MISSING", batch))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("should reject empty and oversized batches")
+    void shouldRejectInvalidBatchSizes() {
+        List<TaskDto> oversized = new ArrayList<>();
+        for (int i = 0; i <= TaskService.MAX_BATCH_SIZE; i++) {
+            oversized.add(TaskDto.builder().taskId("TASK-" + i).build());
+        }
+
+        assertThatThrownBy(() -> taskService.upsertTasks(SRID, ASSIGNMENT_ID, List.of()))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> taskService.upsertTasks(SRID, ASSIGNMENT_ID, oversized))
+                .isInstanceOf(BusinessException.class);
+    }
+}
@@ -0,0 +1,120 @@
+package com.codepipeline.mcp.service;
+
+import com.codepipeline.mcp.dto.TaskDto;
+import com.codepipeline.mcp.exception.ResourceNotFoundException;
+import com.codepipeline.mcp.model.Assignment;
+import com.codepipeline.mcp.model.Task;
+import com.codepipeline.mcp.model.TaskStatus;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({TaskService.class, ParentLookupService.class})
+@DisplayName("Task Service Query Count Tests")
+class TaskServiceQueryCountTest {
+
+    private static final String SRID = "SRID1";
+    private static final String ASSIGNMENT_ID = "ASSIGN-1";
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskService taskService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Assignment assignment = Assignment.builder()
+                .assignmentId(ASSIGNMENT_ID)
+                .srid(SRID)
+                .build();
+        assignment.addTask(Task.builder().taskId("TASK-1").status(TaskStatus.OPEN).build());
+        assignment.addTask(Task.builder().taskId("TASK-2").status(TaskStatus.OPEN).build());
+        entityManager.persist(assignment);
+        entityManager.persist(Assignment.builder()
+                .assignmentId("EMPTY-1")
+                .srid(SRID)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("should read a task in a single statement")
+    void shouldGetTaskInOneStatement() {
+        TaskDto task = taskService.getTask(SRID, ASSIGNMENT_ID, "TASK-1");
+
+        assertThat(task.getTaskId()).isEqualTo("TASK-1");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should update a task with one read and one write")
+    void shouldUpdateTaskWithOneRead() {
+        TaskDto changes = TaskDto.builder().taskId("TASK-1").status(TaskStatus.CLOSED).build();
+
+        TaskDto task = taskService.updateTask(SRID, ASSIGNMENT_ID, "TASK-1", changes);
+        entityManager.flush();
+
+        assertThat(task.getStatus()).isEqualTo(TaskStatus.CLOSED);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should delete a task with one read and one write")
+    void shouldDeleteTaskWithOneRead() {
+        taskService.deleteTask(SRID, ASSIGNMENT_ID, "TASK-2");
+        entityManager.flush();
+
+        assertThat(statistics.getEntityDeleteCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should distinguish a missing assignment from a missing task")
+    void shouldDistinguishMissingAssignmentFromMissingTask() {
+        assertThatThrownBy(() -> taskService.getTask(SRID, "MISSING", "TASK-1"))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Assignment not found with id: MISSING");
+        assertThatThrownBy(() -> taskService.getTask("OTHER", ASSIGNMENT_ID, "TASK-1"))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Assignment not found with id: " + ASSIGNMENT_ID);
+        assertThatThrownBy(() -> taskService.getTask(SRID, ASSIGNMENT_ID, "TASK-9"))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Task not found with id: TASK-9");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should list tasks in a single statement and check the assignment only for empty pages")
+    void shouldListTasksWithoutSeparateExistenceCheck() {
+        assertThat(taskService.getTasks(SRID, ASSIGNMENT_ID, null, 10).getItems()).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        assertThat(taskService.getTasks(SRID, "EMPTY-1", null, 10).getItems()).isEmpty();
+        assertThatThrownBy(() -> taskService.getTasks(SRID, "MISSING", null, 10))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
@@ -0,0 +1,69 @@
+package com.codepipeline.mcp.util;
+
+import com.codepipeline.mcp.dto.CursorPage;
+import com.codepipeline.mcp.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorUtilsTest {
+
+    private static final String ID = "0190a1b2-c3d4-7e5f-8a9b-0c1d2e3f4a5b";
+
+    @Test
+    void shouldRoundTripCursor() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123_000_000);
+
+        CursorUtils.Cursor cursor = CursorUtils.decode(CursorUtils.encode(createdAt, ID));
+
+        assertThat(cursor.createdAt()).isEqualTo(createdAt);
+        assertThat(cursor.id()).isEqualTo(ID);
+    }
+
+    @Test
+    void shouldTreatMissingCursorAsFirstPage() {
+        assertThat(CursorUtils.decode(null)).isNull();
+        assertThat(CursorUtils.decode("  ")).isNull();
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        assertThatThrownBy(() -> CursorUtils.decode("not a cursor!"))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> CursorUtils.decode(CursorUtils.encode(null, ID)))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> CursorUtils.decode(CursorUtils.encode(LocalDateTime.now(), "abc-123")))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Invalid pagination cursor");
+    }
+
+    @Test
+    void shouldCapLimit() {
+        assertThat(CursorUtils.normalizeLimit(10)).isEqualTo(10);
+        assertThat(CursorUtils.normalizeLimit(10_000)).isEqualTo(CursorUtils.MAX_LIMIT);
+        assertThatThrownBy(() -> CursorUtils.normalizeLimit(0))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void shouldEmitCursorOnlyWhenMoreRowsExist() {
+        LocalDateTime now = LocalDateTime.now();
+
+        String a = UuidUtils.timeOrdered(1).toString();
+        String b = UuidUtils.timeOrdered(2).toString();
+        String c = UuidUtils.timeOrdered(3).toString();
+
+        CursorPage<String> lastPage = CursorUtils.toPage(List.of(a, b), 2, value -> now, value -> value);
+        CursorPage<String> fullPage = CursorUtils.toPage(List.of(a, b, c), 2, value -> now, value -> value);
+
+        assertThat(lastPage.isHasMore()).isFalse();
+        assertThat(lastPage.getNextCursor()).isNull();
+        assertThat(fullPage.getItems()).containsExactly(a, b);
+        assertThat(fullPage.isHasMore()).isTrue();
+        assertThat(CursorUtils.decode(fullPage.getNextCursor()).id()).isEqualTo(b);
+    }
+}
@@ -0,0 +1,39 @@
+package com.codepipeline.mcp.util;
+
+import com.codepipeline.mcp.dto.CursorPage;
+import com.codepipeline.mcp.dto.ReleaseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FieldSelectionTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    void shouldTreatBlankFieldsAsFullResponse() {
+        assertThat(FieldSelection.isSparse(null)).isFalse();
+        assertThat(FieldSelection.isSparse(" ")).isFalse();
+        assertThat(FieldSelection.isSparse("releaseId")).isTrue();
+    }
+
+    @Test
+    void shouldLeaveUnselectedFieldsOutOfSparseItems() {
+        CursorPage<ReleaseDto> page = CursorPage.<ReleaseDto>builder()
+                .items(List.of(ReleaseDto.builder().id("1").releaseId("REL-1").build()))
+                .nextCursor("next")
+                .hasMore(true)
+                .build();
+
+        CursorPage<Map<String, Object>> sparse = FieldSelection.withoutNulls(page, objectMapper);
+
+        assertThat(sparse.getItems()).containsExactly(Map.of("id", "1", "releaseId", "REL-1"));
+        assertThat(sparse.getNextCursor()).isEqualTo("next");
+        assertThat(sparse.isHasMore()).isTrue();
+    }
+}
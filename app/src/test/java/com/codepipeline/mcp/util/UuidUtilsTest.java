@@ -0,0 +1,49 @@
+package com.codepipeline.mcp.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidUtilsTest {
+
+    @Test
+    void shouldGenerateVersion7Uuids() {
+        UUID uuid = UuidUtils.timeOrdered();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldEncodeTimestampInLeadingBits() {
+        long epochMillis = 1_720_000_000_123L;
+
+        UUID uuid = UuidUtils.timeOrdered(epochMillis);
+
+        assertThat(uuid.getMostSignificantBits() >>> 16).isEqualTo(epochMillis);
+    }
+
+    @Test
+    void shouldSortByCreationTimeAsValuesAndAsStrings() {
+        List<UUID> uuids = new ArrayList<>();
+        for (long millis = 1_720_000_000_000L; millis < 1_720_000_000_100L; millis++) {
+            uuids.add(UuidUtils.timeOrdered(millis));
+        }
+
+        assertThat(uuids).isSortedAccordingTo(UUID::compareTo);
+        assertThat(uuids.stream().map(UUID::toString).toList()).isSorted();
+    }
+
+    @Test
+    void shouldRecognizeCanonicalUuids() {
+        assertThat(UuidUtils.isUuid(UuidUtils.timeOrdered().toString())).isTrue();
+        assertThat(UuidUtils.isUuid("0190F5A2-7C3E-7A51-9D2B-3C4E5F607182")).isTrue();
+        assertThat(UuidUtils.isUuid("abc-123")).isFalse();
+        assertThat(UuidUtils.isUuid("0190f5a27c3e7a519d2b3c4e5f607182")).isFalse();
+        assertThat(UuidUtils.isUuid(null)).isFalse();
+    }
+}
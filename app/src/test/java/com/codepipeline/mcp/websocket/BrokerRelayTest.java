@@ -0,0 +1,129 @@
+package com.codepipeline.mcp.websocket;
+
+import com.codepipeline.mcp.config.WebSocketConfig;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.ReactorNettyTcpStompClient;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.lang.reflect.Type;
+import java.net.ServerSocket;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Runs the WebSocket broker configuration against an embedded ActiveMQ broker standing in for the
+ * external STOMP broker that replicas share in relay mode.
+ */
+@DisplayName("Broker Relay Tests")
+class BrokerRelayTest {
+
+    private static final String DESTINATION = "/topic/ispw/SRID1/releases";
+
+    private final WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class))
+            .withUserConfiguration(WebSocketConfig.class);
+
+    private EmbeddedActiveMQ broker;
+    private int stompPort;
+
+    @BeforeEach
+    void startBroker() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            stompPort = socket.getLocalPort();
+        }
+        broker = new EmbeddedActiveMQ().setConfiguration(new ConfigurationImpl()
+                .setPersistenceEnabled(false)
+                .setSecurityEnabled(false)
+                .addAcceptorConfiguration("stomp", "tcp://localhost:" + stompPort
+                        + "?protocols=STOMP;anycastPrefix=/queue/;multicastPrefix=/topic/"));
+        broker.start();
+    }
+
+    @AfterEach
+    void stopBroker() throws Exception {
+        broker.stop();
+    }
+
+    @Test
+    @DisplayName("should use the in-memory broker by default")
+    void shouldUseSimpleBrokerByDefault() {
+        contextRunner.run(context -> {
+            assertThat(context).hasSingleBean(SimpleBrokerMessageHandler.class);
+            assertThat(context).doesNotHaveBean(StompBrokerRelayMessageHandler.class);
+        });
+    }
+
+    @Test
+    @DisplayName("should deliver messages through the external broker in relay mode")
+    void shouldDeliverThroughRelay() {
+        contextRunner
+                .withPropertyValues(
+                        "mcp.client.websocket.broker.mode=relay",
+                        "mcp.client.websocket.broker.relay-port=" + stompPort)
+                .run(context -> {
+                    StompBrokerRelayMessageHandler relay = context.getBean(StompBrokerRelayMessageHandler.class);
+                    await().atMost(10, TimeUnit.SECONDS).until(relay::isBrokerAvailable);
+
+                    // A subscriber connected straight to the broker, as a client of another replica would be
+                    BlockingQueue<Map<String, Object>> received = new LinkedBlockingQueue<>();
+                    ReactorNettyTcpStompClient client = new ReactorNettyTcpStompClient("localhost", stompPort);
+                    client.setMessageConverter(new MappingJackson2MessageConverter());
+                    client.setTaskScheduler(context.getBean("messageBrokerTaskScheduler", TaskScheduler.class));
+                    StompSession session = client.connectAsync(new StompSessionHandlerAdapter() {
+                    }).get(10, TimeUnit.SECONDS);
+                    try {
+                        session.setAutoReceipt(true);
+                        CountDownLatch subscribed = new CountDownLatch(1);
+                        session.subscribe(DESTINATION, new StompFrameHandler() {
+                            @Override
+                            public Type getPayloadType(StompHeaders headers) {
+                                return Map.class;
+                            }
+
+                            @Override
+                            public void handleFrame(StompHeaders headers, Object payload) {
+                                received.add(payload(payload));
+                            }
+                        }).addReceiptTask(subscribed::countDown);
+                        assertThat(subscribed.await(10, TimeUnit.SECONDS)).isTrue();
+
+                        context.getBean(SimpMessagingTemplate.class)
+                                .convertAndSend(DESTINATION, Map.of("type", "release:updated", "id", "REL-1"));
+
+                        assertThat(received.poll(10, TimeUnit.SECONDS))
+                                .containsEntry("type", "release:updated")
+                                .containsEntry("id", "REL-1");
+                    } finally {
+                        session.disconnect();
+                        client.shutdown();
+                    }
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> payload(Object payload) {
+        return (Map<String, Object>) payload;
+    }
+}
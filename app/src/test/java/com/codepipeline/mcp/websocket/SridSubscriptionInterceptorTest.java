@@ -0,0 +1,109 @@
+package com.codepipeline.mcp.websocket;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.security.Principal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("SRID Subscription Interceptor Tests")
+class SridSubscriptionInterceptorTest {
+
+    private final SridSubscriptionInterceptor interceptor = new SridSubscriptionInterceptor("srids");
+    private final MessageChannel channel = mock(MessageChannel.class);
+
+    @Test
+    @DisplayName("should allow subscribing to an SRID listed in the token")
+    void shouldAllowListedSrid() {
+        Message<?> message = frame(StompCommand.SUBSCRIBE, "/topic/ispw/SRID1/releases", user(List.of("SRID1")));
+
+        assertThat(interceptor.preSend(message, channel)).isSameAs(message);
+    }
+
+    @Test
+    @DisplayName("should deny subscribing to an SRID missing from the token")
+    void shouldDenyOtherSrid() {
+        Message<?> message = frame(StompCommand.SUBSCRIBE, "/topic/ispw/SRID2/releases", user(List.of("SRID1")));
+
+        assertThatThrownBy(() -> interceptor.preSend(message, channel)).isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    @DisplayName("should deny anonymous subscriptions to SRID topics but not to other topics")
+    void shouldDenyAnonymous() {
+        Message<?> srid = frame(StompCommand.SUBSCRIBE, "/topic/ispw/SRID1/tasks", null);
+        Message<?> greetings = frame(StompCommand.SUBSCRIBE, "/topic/greetings", null);
+
+        assertThatThrownBy(() -> interceptor.preSend(srid, channel)).isInstanceOf(AccessDeniedException.class);
+        assertThat(interceptor.preSend(greetings, channel)).isSameAs(greetings);
+    }
+
+    @Test
+    @DisplayName("should allow all SRIDs for a wildcard claim or an admin")
+    void shouldAllowWildcardAndAdmin() {
+        Jwt jwt = jwt(null);
+        JwtAuthenticationToken admin =
+                new JwtAuthenticationToken(jwt, AuthorityUtils.createAuthorityList("ROLE_ADMIN"));
+
+        Message<?> wildcard = frame(StompCommand.SUBSCRIBE, "/topic/ispw/ANY/sets", user(List.of("*")));
+        Message<?> byAdmin = frame(StompCommand.SUBSCRIBE, "/topic/ispw/ANY/sets", admin);
+
+        assertThat(interceptor.preSend(wildcard, channel)).isSameAs(wildcard);
+        assertThat(interceptor.preSend(byAdmin, channel)).isSameAs(byAdmin);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/topic/**", "/topic/ispw*/**", "/topic/ispw/*/releases", "/topic/ispw/SRID?/tasks",
+            "/topic/ispw/{srid}/sets"})
+    @DisplayName("should reject pattern subscriptions under /topic even for a wildcard claim")
+    void shouldDenyDestinationPatterns(String destination) {
+        Message<?> message = frame(StompCommand.SUBSCRIBE, destination, user(List.of("*")));
+
+        assertThatThrownBy(() -> interceptor.preSend(message, channel)).isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    @DisplayName("should reject client sends to SRID topics")
+    void shouldDenySend() {
+        Message<?> message = frame(StompCommand.SEND, "/topic/ispw/SRID1/releases", user(List.of("SRID1")));
+
+        assertThatThrownBy(() -> interceptor.preSend(message, channel)).isInstanceOf(AccessDeniedException.class);
+    }
+
+    private static Message<?> frame(StompCommand command, String destination, Principal user) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setDestination(destination);
+        accessor.setUser(user);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static JwtAuthenticationToken user(List<String> srids) {
+        return new JwtAuthenticationToken(jwt(srids), AuthorityUtils.createAuthorityList("ROLE_USER"));
+    }
+
+    private static Jwt jwt(List<String> srids) {
+        Jwt.Builder builder = Jwt.withTokenValue("token")
+                .header("alg", "none")
+                .claim("preferred_username", "alice");
+        if (srids != null) {
+            builder.claim("srids", srids);
+        }
+        return builder.build();
+    }
+}
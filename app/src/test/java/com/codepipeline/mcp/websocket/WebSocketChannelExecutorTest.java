@@ -0,0 +1,97 @@
+package com.codepipeline.mcp.websocket;
+
+import com.codepipeline.mcp.config.WebSocketConfig;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("WebSocket Channel Executor Tests")
+class WebSocketChannelExecutorTest {
+
+    private final WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class))
+            .withUserConfiguration(WebSocketConfig.class);
+
+    @Test
+    @DisplayName("should run each client channel on its own configured pool")
+    void shouldConfigureChannelPools() {
+        contextRunner
+                .withPropertyValues(
+                        "mcp.client.websocket.inbound-channel.core-pool-size=3",
+                        "mcp.client.websocket.inbound-channel.max-pool-size=6",
+                        "mcp.client.websocket.inbound-channel.queue-capacity=50",
+                        "mcp.client.websocket.outbound-channel.core-pool-size=2",
+                        "mcp.client.websocket.outbound-channel.max-pool-size=4",
+                        "mcp.client.websocket.outbound-channel.keep-alive=PT30S")
+                .run(context -> {
+                    ThreadPoolTaskExecutor inbound =
+                            context.getBean("clientInboundChannelExecutor", ThreadPoolTaskExecutor.class);
+                    assertThat(inbound.getCorePoolSize()).isEqualTo(3);
+                    assertThat(inbound.getMaxPoolSize()).isEqualTo(6);
+                    assertThat(inbound.getThreadPoolExecutor().getQueue().remainingCapacity()).isEqualTo(50);
+                    assertThat(threadName(inbound)).startsWith("ws-inbound-");
+
+                    ThreadPoolTaskExecutor outbound =
+                            context.getBean("clientOutboundChannelExecutor", ThreadPoolTaskExecutor.class);
+                    assertThat(outbound).isNotSameAs(inbound);
+                    assertThat(outbound.getCorePoolSize()).isEqualTo(2);
+                    assertThat(outbound.getMaxPoolSize()).isEqualTo(4);
+                    assertThat(outbound.getKeepAliveSeconds()).isEqualTo(30);
+                    assertThat(threadName(outbound)).startsWith("ws-outbound-");
+                });
+    }
+
+    @Test
+    @DisplayName("should report queue depth and active threads per channel")
+    void shouldPublishChannelGauges() {
+        contextRunner
+                .withPropertyValues(
+                        "mcp.client.websocket.inbound-channel.core-pool-size=1",
+                        "mcp.client.websocket.inbound-channel.max-pool-size=1")
+                .run(context -> {
+                    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+                    context.getBean("webSocketChannelMetrics", MeterBinder.class).bindTo(registry);
+                    ThreadPoolTaskExecutor inbound =
+                            context.getBean("clientInboundChannelExecutor", ThreadPoolTaskExecutor.class);
+
+                    CountDownLatch release = new CountDownLatch(1);
+                    Runnable blocked = () -> {
+                        try {
+                            release.await(10, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    };
+                    inbound.execute(blocked);
+                    inbound.execute(blocked);
+
+                    try {
+                        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+                            assertThat(registry.get("mcp.websocket.channel.active").tag("channel", "inbound")
+                                    .gauge().value()).isEqualTo(1.0);
+                            assertThat(registry.get("mcp.websocket.channel.queued").tag("channel", "inbound")
+                                    .gauge().value()).isEqualTo(1.0);
+                        });
+                        assertThat(registry.get("mcp.websocket.channel.queued").tag("channel", "outbound")
+                                .gauge().value()).isZero();
+                    } finally {
+                        release.countDown();
+                    }
+                });
+    }
+
+    private static String threadName(ThreadPoolTaskExecutor executor) throws Exception {
+        return executor.submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS);
+    }
+}
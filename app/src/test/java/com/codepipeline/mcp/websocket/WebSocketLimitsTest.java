@@ -0,0 +1,101 @@
+package com.codepipeline.mcp.websocket;
+
+import com.codepipeline.mcp.config.WebSocketConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.messaging.StompSubProtocolHandler;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("WebSocket Limits Tests")
+class WebSocketLimitsTest {
+
+    private final WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class))
+            .withUserConfiguration(WebSocketConfig.class);
+
+    @Test
+    @DisplayName("should apply the configured transport limits and heartbeats")
+    void shouldApplyTransportLimits() {
+        contextRunner
+                .withPropertyValues(
+                        "mcp.client.websocket.buffer-size=256KB",
+                        "mcp.client.websocket.send-time-limit=PT5S",
+                        "mcp.client.websocket.message-size-limit=32KB",
+                        "mcp.client.websocket.connection-timeout=4000",
+                        "mcp.client.websocket.heartbeat-interval=20000")
+                .run(context -> {
+                    SubProtocolWebSocketHandler handler = context.getBean(SubProtocolWebSocketHandler.class);
+                    assertThat(handler.getSendBufferSizeLimit()).isEqualTo(256 * 1024);
+                    assertThat(handler.getSendTimeLimit()).isEqualTo(5000);
+                    assertThat(handler.getTimeToFirstMessage()).isEqualTo(4000);
+                    assertThat(handler.getProtocolHandlers())
+                            .singleElement()
+                            .isInstanceOfSatisfying(StompSubProtocolHandler.class,
+                                    stomp -> assertThat(stomp.getMessageSizeLimit()).isEqualTo(32 * 1024));
+
+                    SimpleBrokerMessageHandler broker = context.getBean(SimpleBrokerMessageHandler.class);
+                    assertThat(broker.getHeartbeatValue()).containsExactly(20000, 20000);
+                    assertThat(broker.getTaskScheduler())
+                            .isSameAs(context.getBean("webSocketHeartbeatScheduler", TaskScheduler.class));
+                });
+    }
+
+    @Test
+    @DisplayName("should close sessions beyond the limit without passing them on")
+    void shouldRejectSessionsBeyondLimit() throws Exception {
+        WebSocketHandler delegate = mock(WebSocketHandler.class);
+        SessionLimitHandlerDecorator decorator = new SessionLimitHandlerDecorator(delegate, 2);
+        WebSocketSession first = session("1");
+        WebSocketSession second = session("2");
+        WebSocketSession third = session("3");
+
+        decorator.afterConnectionEstablished(first);
+        decorator.afterConnectionEstablished(second);
+        decorator.afterConnectionEstablished(third);
+
+        verify(third).close(CloseStatus.SERVICE_OVERLOAD);
+        verify(delegate, never()).afterConnectionEstablished(third);
+        assertThat(decorator.getSessionCount()).isEqualTo(2);
+
+        decorator.afterConnectionClosed(third, CloseStatus.SERVICE_OVERLOAD);
+        verify(delegate, never()).afterConnectionClosed(third, CloseStatus.SERVICE_OVERLOAD);
+        assertThat(decorator.getSessionCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should admit a new session once another one closes")
+    void shouldFreeSlotOnClose() throws Exception {
+        WebSocketHandler delegate = mock(WebSocketHandler.class);
+        SessionLimitHandlerDecorator decorator = new SessionLimitHandlerDecorator(delegate, 1);
+        WebSocketSession first = session("1");
+        WebSocketSession second = session("2");
+
+        decorator.afterConnectionEstablished(first);
+        decorator.afterConnectionClosed(first, CloseStatus.NORMAL);
+        decorator.afterConnectionEstablished(second);
+
+        verify(delegate).afterConnectionEstablished(second);
+        verify(second, never()).close(CloseStatus.SERVICE_OVERLOAD);
+        assertThat(decorator.getSessionCount()).isEqualTo(1);
+    }
+
+    private static WebSocketSession session(String id) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(id);
+        return session;
+    }
+}
@@ -0,0 +1,81 @@
+package com.codepipeline.mcp.benchmark;
+
+import com.codepipeline.mcp.dto.AssignmentDto;
+import com.codepipeline.mcp.dto.MessageDto;
+import com.codepipeline.mcp.dto.ReleaseDto;
+import com.codepipeline.mcp.model.Assignment;
+import com.codepipeline.mcp.model.Message;
+import com.codepipeline.mcp.model.Release;
+import com.codepipeline.mcp.util.ModelMapperUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the hand-written {@code fromEntity}/{@code toEntity} mappers against {@link ModelMapperUtils}
+ * for aggregates with {@code children} tasks or release sets.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int children;
+
+    private Assignment assignment;
+    private AssignmentDto assignmentDto;
+    private Release release;
+    private Message message;
+
+    @Setup
+    public void setUp() {
+        assignment = Fixtures.assignment(children);
+        assignmentDto = AssignmentDto.fromEntity(assignment);
+        release = Fixtures.release(children);
+        message = Fixtures.message(1024);
+    }
+
+    @Benchmark
+    public AssignmentDto assignmentFromEntity() {
+        return AssignmentDto.fromEntity(assignment);
+    }
+
+    @Benchmark
+    public Assignment assignmentToEntity() {
+        return AssignmentDto.toEntity(assignmentDto);
+    }
+
+    @Benchmark
+    public ReleaseDto releaseFromEntity() {
+        return ReleaseDto.fromEntity(release);
+    }
+
+    @Benchmark
+    public MessageDto messageFromEntity() {
+        return MessageDto.fromEntity(message);
+    }
+
+    @Benchmark
+    public AssignmentDto assignmentModelMapper() {
+        return ModelMapperUtils.map(assignment, AssignmentDto.class);
+    }
+
+    @Benchmark
+    public MessageDto messageModelMapper() {
+        return ModelMapperUtils.map(message, MessageDto.class);
+    }
+}
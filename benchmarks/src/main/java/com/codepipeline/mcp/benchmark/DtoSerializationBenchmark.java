@@ -0,0 +1,89 @@
+package com.codepipeline.mcp.benchmark;
+
+import com.codepipeline.mcp.dto.AssignmentDto;
+import com.codepipeline.mcp.dto.CursorPage;
+import com.codepipeline.mcp.dto.MessageDto;
+import com.codepipeline.mcp.dto.ReleaseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures Jackson serialization of the response DTOs with the same {@link ObjectMapper} defaults
+ * Spring Boot applies: a single aggregate with {@code children} tasks or sets, a list page of
+ * {@value #PAGE_SIZE} assignments without tasks, and a message.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoSerializationBenchmark {
+
+    static final int PAGE_SIZE = 50;
+
+    @Param({"10", "100", "1000"})
+    private int children;
+
+    private ObjectMapper objectMapper;
+    private AssignmentDto assignment;
+    private ReleaseDto release;
+    private CursorPage<AssignmentDto> assignmentPage;
+    private MessageDto message;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        assignment = AssignmentDto.fromEntity(Fixtures.assignment(children));
+        release = ReleaseDto.fromEntity(Fixtures.release(children));
+        message = MessageDto.fromEntity(Fixtures.message(1024));
+
+        List<AssignmentDto> items = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            AssignmentDto item = AssignmentDto.fromEntity(Fixtures.assignment(0));
+            item.setTasks(null);
+            items.add(item);
+        }
+        assignmentPage = CursorPage.<AssignmentDto>builder()
+                .items(items)
+                .nextCursor("MjAyNS0wNi0wNVQxOTo0NTozMC4xMjN8NTUwZTg0MDA")
+                .hasMore(true)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] assignment() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(assignment);
+    }
+
+    @Benchmark
+    public byte[] release() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(release);
+    }
+
+    @Benchmark
+    public byte[] assignmentPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(assignmentPage);
+    }
+
+    @Benchmark
+    public byte[] message() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(message);
+    }
+}
@@ -0,0 +1,102 @@
+package com.codepipeline.mcp.benchmark;
+
+import com.codepipeline.mcp.model.Assignment;
+import com.codepipeline.mcp.model.AssignmentStatus;
+import com.codepipeline.mcp.model.DeploymentStatus;
+import com.codepipeline.mcp.model.Message;
+import com.codepipeline.mcp.model.Release;
+import com.codepipeline.mcp.model.ReleaseSet;
+import com.codepipeline.mcp.model.ReleaseStatus;
+import com.codepipeline.mcp.model.Task;
+import com.codepipeline.mcp.model.TaskStatus;
+import com.codepipeline.mcp.util.UuidUtils;
+
+import java.time.LocalDateTime;
+
+/**
+ * Builds fully populated entities shaped like production ISPW data, so that the benchmarks map and
+ * serialize every field rather than mostly {@code null}s.
+ */
+final class Fixtures {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 5, 19, 45, 30);
+
+    private Fixtures() {
+        // Private constructor to prevent instantiation
+    }
+
+    static Assignment assignment(int taskCount) {
+        Assignment assignment = Assignment.builder()
+                .id(UuidUtils.timeOrdered().toString())
+                .assignmentId("PLAY000123")
+                .srid("ISPW")
+                .application("PLAY")
+                .stream("PLAY")
+                .owner("XDEVREG")
+                .status(AssignmentStatus.IN_PROGRESS)
+                .releaseId("PLAY.R1")
+                .setid("S000000042")
+                .level("DEV1")
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+        for (int i = 0; i < taskCount; i++) {
+            assignment.addTask(Task.builder()
+                    .id(UuidUtils.timeOrdered().toString())
+                    .taskId("7E45E1A7C5" + String.format("%06d", i))
+                    .type("COB")
+                    .status(TaskStatus.OPEN)
+                    .componentType("COB")
+                    .componentName("TPROG" + String.format("%03d", i % 1000))
+                    .componentExtension("cbl")
+                    .componentVersion(String.valueOf(i % 20))
+                    .componentLastAction("GENERATE")
+                    .componentLastActionDateTime("2025-06-05T19:45:30Z")
+                    .createdAt(NOW)
+                    .updatedAt(NOW)
+                    .build());
+        }
+        return assignment;
+    }
+
+    static Release release(int setCount) {
+        Release release = Release.builder()
+                .id(UuidUtils.timeOrdered().toString())
+                .releaseId("PLAY.R1")
+                .srid("ISPW")
+                .application("PLAY")
+                .stream("PLAY")
+                .owner("XDEVREG")
+                .status(ReleaseStatus.DEPLOY_IN_PROGRESS)
+                .description("Quarterly release of the PLAY application")
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+        for (int i = 0; i < setCount; i++) {
+            release.addSet(ReleaseSet.builder()
+                    .id(UuidUtils.timeOrdered().toString())
+                    .setId("S" + String.format("%09d", i))
+                    .status(ReleaseStatus.DEPLOYED)
+                    .owner("XDEVREG")
+                    .description("Promotion to QA")
+                    .deployedBy("XDEVREG")
+                    .deployedAt(NOW)
+                    .deploymentStatus(DeploymentStatus.COMPLETE)
+                    .createdAt(NOW)
+                    .updatedAt(NOW)
+                    .build());
+        }
+        return release;
+    }
+
+    static Message message(int contentLength) {
+        return Message.builder()
+                .id(UuidUtils.timeOrdered().toString())
+                .content("x".repeat(contentLength))
+                .sender("XDEVREG")
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .version(3L)
+                .build();
+    }
+}
@@ -1,35 +0,0 @@
-package com.codepipeline.mcp.config;
-
-import org.springframework.context.annotation.Configuration;
-import org.springframework.messaging.simp.config.MessageBrokerRegistry;
-import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
-import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
-import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
-
-@Configuration
-@EnableWebSocketMessageBroker
-public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
-
-    @Override
-    public void configureMessageBroker(MessageBrokerRegistry config) {
-        // Enable a simple message broker for handling subscriptions and broadcasting
-        config.enableSimpleBroker(
-            "/topic",  // For topic-based broadcasting
-            "/queue"   // For user-specific messages
-        );
-        
-        // Set the application destination prefix for messages bound for @MessageMapping methods
-        config.setApplicationDestinationPrefixes("/app");
-        
-        // Configure user destination prefix for user-specific messages
-        config.setUserDestinationPrefix("/user");
-    }
-
-    @Override
-    public void registerStompEndpoints(StompEndpointRegistry registry) {
-        // Register the WebSocket endpoint that clients will connect to
-        registry.addEndpoint("/ws")
-               .setAllowedOriginPatterns("*")
-               .withSockJS();
-    }
-}